@@ -0,0 +1,49 @@
+package com.talentcloud.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Entry point of benchmarks.jar. Accepts the usual JMH command line, but unless -rf/-rff
+ * are given the results are written as JSON to jmh-results/, one file per run, named after
+ * the release label (-Dbenchmark.label=..., defaults to "local") and the start time, so runs
+ * can be compared across releases.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+        if (commandLine.shouldList()) {
+            new Runner(commandLine).list();
+            return;
+        }
+
+        ResultFormatType format = commandLine.getResultFormat().orElse(ResultFormatType.JSON);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine).resultFormat(format);
+        if (!commandLine.getResult().hasValue()) {
+            Path directory = Files.createDirectories(Path.of("jmh-results"));
+            String label = System.getProperty("benchmark.label", "local");
+            String started = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            String extension = format.name().toLowerCase(Locale.ROOT);
+            options.result(directory.resolve(label + "-" + started + "." + extension).toString());
+        }
+
+        new Runner(options.build()).run();
+    }
+}
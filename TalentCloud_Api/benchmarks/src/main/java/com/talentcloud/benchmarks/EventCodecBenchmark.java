@@ -0,0 +1,132 @@
+package com.talentcloud.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentcloud.events.codec.EventCodec;
+import com.talentcloud.job.events.ApplicationStatusChangedEvent;
+import com.talentcloud.job.events.JobOfferCreatedEvent;
+import org.apache.kafka.common.record.CompressionType;
+import org.apache.kafka.common.record.MemoryRecords;
+import org.apache.kafka.common.record.MemoryRecordsBuilder;
+import org.apache.kafka.common.record.TimestampType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON (what JsonSerializer wrote) against the binary event codec, per event.
+ * <p>
+ * CPU cost is what JMH measures. Sizes are printed once per trial: a single record, and a
+ * Kafka batch of {@value #BATCH_SIZE} records uncompressed and with LZ4 as the producers
+ * now use it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventCodecBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"JOB_OFFER_CREATED", "APPLICATION_STATUS_CHANGED"})
+    public String eventType;
+
+    private ObjectMapper objectMapper;
+    private EventCodec codec;
+    private Object event;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        codec = EventCodec.getDefault();
+        event = event(eventType, 0);
+        json = objectMapper.writeValueAsBytes(event);
+        binary = codec.encode(event);
+
+        MemoryRecordsBuilder jsonBatch = batch(CompressionType.NONE);
+        MemoryRecordsBuilder jsonLz4Batch = batch(CompressionType.LZ4);
+        MemoryRecordsBuilder binaryBatch = batch(CompressionType.NONE);
+        MemoryRecordsBuilder binaryLz4Batch = batch(CompressionType.LZ4);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            Object batchEvent = event(eventType, i);
+            byte[] key = String.valueOf(i).getBytes(StandardCharsets.UTF_8);
+            byte[] jsonValue = objectMapper.writeValueAsBytes(batchEvent);
+            byte[] binaryValue = codec.encode(batchEvent);
+            jsonBatch.append(0L, key, jsonValue);
+            jsonLz4Batch.append(0L, key, jsonValue);
+            binaryBatch.append(0L, key, binaryValue);
+            binaryLz4Batch.append(0L, key, binaryValue);
+        }
+        System.out.printf("%n%s: record %d B JSON, %d B binary; batch of %d %d B JSON, %d B JSON+LZ4, %d B binary, %d B binary+LZ4%n",
+                eventType, json.length, binary.length, BATCH_SIZE,
+                size(jsonBatch), size(jsonLz4Batch), size(binaryBatch), size(binaryLz4Batch));
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() throws IOException {
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return codec.encode(event);
+    }
+
+    @Benchmark
+    public Object jsonDecode() throws IOException {
+        return objectMapper.readValue(json, event.getClass());
+    }
+
+    @Benchmark
+    public Object binaryDecode() {
+        return codec.decode(binary, event.getClass());
+    }
+
+    private static MemoryRecordsBuilder batch(CompressionType compressionType) {
+        return MemoryRecords.builder(ByteBuffer.allocate(1 << 20), compressionType, TimestampType.CREATE_TIME, 0L);
+    }
+
+    private static int size(MemoryRecordsBuilder builder) {
+        MemoryRecords records = builder.build();
+        return records.sizeInBytes();
+    }
+
+    private static Object event(String eventType, int i) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 15, 10, 30).plusSeconds(i);
+        return switch (eventType) {
+            case "JOB_OFFER_CREATED" -> JobOfferCreatedEvent.builder()
+                    .eventId("5f0c8a52-8f6e-4a55-9a7a-" + String.format("%012d", i))
+                    .timestamp(now)
+                    .eventType(eventType)
+                    .jobOfferId(42L + i)
+                    .clientId("client-7")
+                    .jobTitle("Senior Backend Engineer")
+                    .jobDescription(Fixtures.jobOffer(42 + i).getDescription())
+                    .location("Tunis")
+                    .employmentType("FULL_TIME")
+                    .build();
+            case "APPLICATION_STATUS_CHANGED" -> ApplicationStatusChangedEvent.builder()
+                    .eventId("event-" + i)
+                    .timestamp(now)
+                    .eventType(eventType)
+                    .applicationId((long) i)
+                    .jobOfferId(42L)
+                    .candidateId("user-" + i)
+                    .candidateEmail("user-" + i + "@example.com")
+                    .clientId("client-7")
+                    .jobTitle("Senior Backend Engineer")
+                    .oldStatus("SUBMITTED")
+                    .newStatus("UNDER_REVIEW")
+                    .build();
+            default -> throw new IllegalArgumentException(eventType);
+        };
+    }
+}
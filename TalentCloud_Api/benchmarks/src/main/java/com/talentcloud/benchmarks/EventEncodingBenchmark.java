@@ -0,0 +1,90 @@
+package com.talentcloud.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentcloud.job.events.ApplicationStatusChangedEvent;
+import com.talentcloud.job.events.JobOfferCreatedEvent;
+import com.talentcloud.job.repository.OutboxEventRepository;
+import com.talentcloud.job.service.NotificationService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox row creation in NotificationService, which is dominated by the JSON encoding
+ * of the event. The repository is replaced by a proxy that keeps the last saved value.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventEncodingBenchmark {
+
+    private static final int STATUS_BATCH_SIZE = 100;
+
+    private NotificationService notificationService;
+    private JobOfferCreatedEvent jobOfferCreatedEvent;
+    private List<ApplicationStatusChangedEvent> statusChangedEvents;
+    private Object lastSaved;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        OutboxEventRepository repository = (OutboxEventRepository) Proxy.newProxyInstance(
+                OutboxEventRepository.class.getClassLoader(),
+                new Class<?>[]{OutboxEventRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "save", "saveAll" -> lastSaved = args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        notificationService = new NotificationService(repository, objectMapper);
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 15, 10, 30);
+        jobOfferCreatedEvent = JobOfferCreatedEvent.builder()
+                .eventId("5f0c8a52-8f6e-4a55-9a7a-2b1f0f6f5c11")
+                .timestamp(now)
+                .eventType("JOB_OFFER_CREATED")
+                .jobOfferId(42L)
+                .clientId("client-7")
+                .jobTitle("Senior Backend Engineer")
+                .jobDescription(Fixtures.jobOffer(42).getDescription())
+                .location("Tunis")
+                .employmentType("FULL_TIME")
+                .build();
+
+        statusChangedEvents = new ArrayList<>(STATUS_BATCH_SIZE);
+        for (int i = 0; i < STATUS_BATCH_SIZE; i++) {
+            statusChangedEvents.add(ApplicationStatusChangedEvent.builder()
+                    .eventId("event-" + i)
+                    .timestamp(now)
+                    .eventType("APPLICATION_STATUS_CHANGED")
+                    .applicationId((long) i)
+                    .jobOfferId(42L)
+                    .candidateId("user-" + i)
+                    .candidateEmail("user-" + i + "@example.com")
+                    .clientId("client-7")
+                    .jobTitle("Senior Backend Engineer")
+                    .oldStatus("SUBMITTED")
+                    .newStatus("UNDER_REVIEW")
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public Object jobCreatedEvent() {
+        notificationService.sendJobCreatedEvent(jobOfferCreatedEvent);
+        return lastSaved;
+    }
+
+    @Benchmark
+    public Object statusChangedEventBatch() {
+        notificationService.sendApplicationStatusChangedEvents(statusChangedEvents);
+        return lastSaved;
+    }
+}
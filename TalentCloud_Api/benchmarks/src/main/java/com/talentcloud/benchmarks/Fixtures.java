@@ -0,0 +1,128 @@
+package com.talentcloud.benchmarks;
+
+import com.talentcloud.job.model.EmploymentType;
+import com.talentcloud.job.model.JobOffer;
+import com.talentcloud.profile.model.Candidate;
+import com.talentcloud.profile.model.Certification;
+import com.talentcloud.profile.model.Education;
+import com.talentcloud.profile.model.Experience;
+import com.talentcloud.profile.model.Gender;
+import com.talentcloud.profile.model.Skills;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Deterministic, realistically sized entities shared by the benchmarks.
+ */
+final class Fixtures {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 10, 30);
+
+    private Fixtures() {
+    }
+
+    static JobOffer jobOffer(long id) {
+        return JobOffer.builder()
+                .jobOfferId(id)
+                .clientId("client-" + (id % 50))
+                .title("Senior Backend Engineer " + id)
+                .description("We are looking for an engineer to build and run our hiring platform. "
+                        + "You will own services end to end, from the API down to the database, "
+                        + "and work closely with product and design.")
+                .location(id % 2 == 0 ? "Tunis" : "Remote")
+                .salaryRange("60k-80k")
+                .requiredExperience("5 years")
+                .requiredSkills(Set.of("JAVA", "SPRING", "SQL", "DOCKER"))
+                .employmentType(EmploymentType.values()[(int) (id % EmploymentType.values().length)])
+                .createdAt(NOW.minusHours(id))
+                .build();
+    }
+
+    static List<JobOffer> jobOffers(int count) {
+        List<JobOffer> offers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            offers.add(jobOffer(i + 1));
+        }
+        return offers;
+    }
+
+    static Candidate candidate(long id) {
+        Candidate candidate = new Candidate();
+        candidate.setCandidateId(id);
+        candidate.setUserId("user-" + id);
+        candidate.setJobTitle("Full Stack Developer");
+        candidate.setAboutMe("Developer with a taste for clean APIs, fast queries and well tested code.");
+        candidate.setJobPreferences("Remote, full time");
+        candidate.setDateOfBirth(LocalDate.of(1994, 3, 12));
+        candidate.setPhoneNumber("+216 20 000 000");
+        candidate.setGender(Gender.OTHER);
+        candidate.setLinkedInUrl("https://www.linkedin.com/in/user-" + id);
+        candidate.setPortfolioUrl("https://user-" + id + ".dev");
+        candidate.setAddress("12 Avenue Habib Bourguiba");
+        candidate.setLocation("Tunis, Tunisia");
+        candidate.setCreatedAt(NOW);
+
+        List<Education> educations = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            educations.add(Education.builder()
+                    .id(id * 10 + i)
+                    .institution("INSAT")
+                    .diplome(i == 0 ? "Licence" : "Master")
+                    .domaineEtude("Software Engineering")
+                    .dateDebut(LocalDate.of(2012 + 3 * i, 9, 15))
+                    .dateFin(LocalDate.of(2015 + 3 * i, 6, 30))
+                    .moyenne(14.5)
+                    .enCours(false)
+                    .build());
+        }
+        candidate.setEducations(educations);
+
+        List<Experience> experiences = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Experience experience = new Experience();
+            experience.setId(id * 10 + i);
+            experience.setTitrePoste("Backend Developer");
+            experience.setEntreprise("Company " + i);
+            experience.setDateDebut(LocalDate.of(2018 + 2 * i, 1, 1));
+            experience.setDateFin(i == 2 ? null : LocalDate.of(2020 + 2 * i, 1, 1));
+            experience.setDescription("Built REST services with Spring Boot and PostgreSQL, deployed on Kubernetes.");
+            experience.setLieu("Tunis");
+            experience.setEnCours(i == 2);
+            experience.setTypeContrat("CDI");
+            experience.setTechnologies("Java, Spring, PostgreSQL, Kafka");
+            experience.setSiteEntreprise("https://company" + i + ".com");
+            experiences.add(experience);
+        }
+        candidate.setExperiences(experiences);
+
+        Certification certification = new Certification();
+        certification.setId(id);
+        certification.setNom("Oracle Certified Professional, Java SE 17");
+        certification.setOrganisme("Oracle");
+        certification.setDateObtention(LocalDate.of(2023, 5, 2));
+        certification.setUrlVerification("https://verify.example.com/" + id);
+        candidate.setCertifications(List.of(certification));
+
+        Skills skills = new Skills();
+        skills.setId(id);
+        skills.setProgrammingLanguages(Set.of("Java", "TypeScript", "SQL"));
+        skills.setTechnicalSkills(Set.of("Spring", "Angular", "REST"));
+        skills.setToolsAndTechnologies(Set.of("Docker", "Kafka", "Git"));
+        skills.setSoftSkills(Set.of("Communication", "Ownership"));
+        skills.setCustomSkills(Set.of());
+        candidate.setSkills(List.of(skills));
+        return candidate;
+    }
+
+    static List<Candidate> candidates(int count) {
+        List<Candidate> candidates = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            candidates.add(candidate(i + 1));
+        }
+        return candidates;
+    }
+}
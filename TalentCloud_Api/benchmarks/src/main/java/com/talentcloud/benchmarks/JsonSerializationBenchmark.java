@@ -0,0 +1,52 @@
+package com.talentcloud.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentcloud.job.model.JobOffer;
+import com.talentcloud.profile.dto.CandidateResponse;
+import com.talentcloud.profile.model.Candidate;
+import com.talentcloud.profile.service.CandidateResponseMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response body serialization of the list endpoints, with the ObjectMapper defaults
+ * Spring MVC uses in the services.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<CandidateResponse> candidateResponses;
+    private List<JobOffer> jobOffers;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        candidateResponses = Fixtures.candidates(size).stream()
+                .map(CandidateResponseMapper::toResponse)
+                .toList();
+        jobOffers = Fixtures.jobOffers(size);
+    }
+
+    @Benchmark
+    public byte[] candidateResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(candidateResponses);
+    }
+
+    @Benchmark
+    public byte[] jobOffers() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(jobOffers);
+    }
+}
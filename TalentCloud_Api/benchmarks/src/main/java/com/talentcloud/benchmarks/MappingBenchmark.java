@@ -0,0 +1,42 @@
+package com.talentcloud.benchmarks;
+
+import com.talentcloud.job.dto.JobOfferResponse;
+import com.talentcloud.job.model.JobOffer;
+import com.talentcloud.job.service.JobOfferResponseMapper;
+import com.talentcloud.profile.dto.CandidateResponse;
+import com.talentcloud.profile.model.Candidate;
+import com.talentcloud.profile.service.CandidateResponseMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response mapping, done once per item on every list endpoint.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    private JobOffer jobOffer;
+    private Candidate candidate;
+
+    @Setup
+    public void setUp() {
+        jobOffer = Fixtures.jobOffer(42);
+        candidate = Fixtures.candidate(42);
+    }
+
+    @Benchmark
+    public JobOfferResponse mapToJobOfferResponse() {
+        return JobOfferResponseMapper.toResponse(jobOffer);
+    }
+
+    @Benchmark
+    public CandidateResponse mapToCandidateResponse() {
+        return CandidateResponseMapper.toResponse(candidate);
+    }
+}
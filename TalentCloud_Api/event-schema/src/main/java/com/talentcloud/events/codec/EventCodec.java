@@ -0,0 +1,289 @@
+package com.talentcloud.events.codec;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Avro binary encoding of event classes, without generated code.
+ * <p>
+ * A record is one magic byte, the 8-byte fingerprint of the writer's schema and the Avro binary
+ * body. Each event class gets a field plan built once from its schema: encoding walks the plan,
+ * decoding walks the writer's schema and sets the fields the target class has, skipping the
+ * others. Fields the writer did not have are left at their Java default, which is how schema
+ * versions stay compatible in both directions.
+ * <p>
+ * Supported field types are nullable unions of string, int, long, double, boolean,
+ * long/local-timestamp-micros (LocalDateTime) and arrays of strings (List or Set).
+ */
+public final class EventCodec {
+
+    public static final byte MAGIC = 0;
+    private static final int HEADER_SIZE = 1 + Long.BYTES;
+    private static final String LOCAL_TIMESTAMP_MICROS = "local-timestamp-micros";
+
+    private final EventSchemas schemas;
+    private final Map<Class<?>, Plan> writePlans = new ConcurrentHashMap<>();
+    private final Map<ReadKey, Plan> readPlans = new ConcurrentHashMap<>();
+
+    public EventCodec(EventSchemas schemas) {
+        this.schemas = schemas;
+    }
+
+    private static final class DefaultHolder {
+        private static final EventCodec INSTANCE = new EventCodec(EventSchemas.load());
+    }
+
+    /**
+     * The codec over the schemas on the classpath, shared by the Kafka serializers.
+     */
+    public static EventCodec getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    private enum Kind { STRING, INT, LONG, DOUBLE, BOOLEAN, LOCAL_DATE_TIME, STRING_ARRAY }
+
+    // field is null when the class has no field of that name, or one of an incompatible type
+    private record Step(String name, Kind kind, boolean nullable, Field field) {
+    }
+
+    private record Plan(long fingerprint, Step[] steps, Constructor<?> constructor) {
+    }
+
+    private record ReadKey(long fingerprint, Class<?> type) {
+    }
+
+    public static boolean isEncoded(byte[] data) {
+        return data != null && data.length >= HEADER_SIZE && data[0] == MAGIC;
+    }
+
+    public byte[] encode(Object event) {
+        Plan plan = writePlans.computeIfAbsent(event.getClass(),
+                type -> plan(schemas.latestFor(type), type, false));
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        out.write(MAGIC);
+        out.writeBytes(ByteBuffer.allocate(Long.BYTES).putLong(plan.fingerprint()).array());
+        BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+        try {
+            for (Step step : plan.steps()) {
+                write(encoder, step, step.field() == null ? null : step.field().get(event));
+            }
+            encoder.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the data is not an encoded event, or was written with
+     *                                   a schema this build does not know
+     */
+    public <T> T decode(byte[] data, Class<T> type) {
+        if (!isEncoded(data)) {
+            throw new IllegalArgumentException("Not an encoded event");
+        }
+        long fingerprint = ByteBuffer.wrap(data, 1, Long.BYTES).getLong();
+        Plan plan = readPlans.computeIfAbsent(new ReadKey(fingerprint, type), key -> {
+            Schema writerSchema = schemas.byFingerprint(key.fingerprint());
+            if (writerSchema == null) {
+                throw new IllegalArgumentException("Unknown event schema " + Long.toHexString(key.fingerprint()));
+            }
+            return plan(writerSchema, key.type(), true);
+        });
+
+        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(data, HEADER_SIZE, data.length - HEADER_SIZE, null);
+        try {
+            Object event = plan.constructor().newInstance();
+            for (Step step : plan.steps()) {
+                Object value = read(decoder, step);
+                if (value != null && step.field() != null) {
+                    step.field().set(event, value);
+                }
+            }
+            return type.cast(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Could not create " + type.getName(), e);
+        }
+    }
+
+    private static void write(BinaryEncoder encoder, Step step, Object value) throws IOException {
+        if (step.nullable()) {
+            if (value == null) {
+                encoder.writeIndex(0);
+                encoder.writeNull();
+                return;
+            }
+            encoder.writeIndex(1);
+        } else if (value == null) {
+            throw new IllegalArgumentException("Field " + step.name() + " is required");
+        }
+        switch (step.kind()) {
+            case STRING -> encoder.writeString(value.toString());
+            case INT -> encoder.writeInt(((Number) value).intValue());
+            case LONG -> encoder.writeLong(((Number) value).longValue());
+            case DOUBLE -> encoder.writeDouble(((Number) value).doubleValue());
+            case BOOLEAN -> encoder.writeBoolean((Boolean) value);
+            case LOCAL_DATE_TIME -> {
+                LocalDateTime dateTime = (LocalDateTime) value;
+                encoder.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000);
+            }
+            case STRING_ARRAY -> {
+                Collection<?> items = (Collection<?>) value;
+                encoder.writeArrayStart();
+                encoder.setItemCount(items.size());
+                for (Object item : items) {
+                    encoder.startItem();
+                    encoder.writeString(String.valueOf(item));
+                }
+                encoder.writeArrayEnd();
+            }
+        }
+    }
+
+    // Reads the value even when the target has no field for it, the decoder has to move past it
+    private static Object read(BinaryDecoder decoder, Step step) throws IOException {
+        if (step.nullable() && decoder.readIndex() == 0) {
+            decoder.readNull();
+            return null;
+        }
+        return switch (step.kind()) {
+            case STRING -> decoder.readString();
+            case INT -> convert(decoder.readInt(), step.field());
+            case LONG -> convert(decoder.readLong(), step.field());
+            case DOUBLE -> decoder.readDouble();
+            case BOOLEAN -> decoder.readBoolean();
+            case LOCAL_DATE_TIME -> {
+                long micros = decoder.readLong();
+                yield LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                        (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+            }
+            case STRING_ARRAY -> {
+                Collection<String> items = step.field() != null && List.class.isAssignableFrom(step.field().getType())
+                        ? new ArrayList<>()
+                        : new LinkedHashSet<>();
+                for (long count = decoder.readArrayStart(); count > 0; count = decoder.arrayNext()) {
+                    for (long i = 0; i < count; i++) {
+                        items.add(decoder.readString());
+                    }
+                }
+                yield items;
+            }
+        };
+    }
+
+    // int and long are interchangeable between writer and reader, like Avro's own promotion
+    private static Object convert(long value, Field field) {
+        if (field == null) {
+            return null;
+        }
+        Class<?> type = field.getType();
+        if (type == Integer.class || type == int.class) {
+            return (int) value;
+        }
+        return value;
+    }
+
+    private static Plan plan(Schema schema, Class<?> type, boolean forReading) {
+        List<Step> steps = new ArrayList<>();
+        for (Schema.Field schemaField : schema.getFields()) {
+            Schema fieldSchema = schemaField.schema();
+            boolean nullable = false;
+            if (fieldSchema.getType() == Schema.Type.UNION) {
+                List<Schema> branches = fieldSchema.getTypes();
+                if (branches.size() != 2 || branches.get(0).getType() != Schema.Type.NULL) {
+                    throw new IllegalArgumentException("Only [\"null\", type] unions are supported, see " + schemaField.name());
+                }
+                nullable = true;
+                fieldSchema = branches.get(1);
+            }
+            Kind kind = kindOf(fieldSchema, schemaField.name());
+            Field field = findField(type, schemaField.name(), kind);
+            if (field == null && !forReading) {
+                throw new IllegalArgumentException(type.getName() + " has no field " + schemaField.name()
+                        + " matching " + schema.getFullName());
+            }
+            steps.add(new Step(schemaField.name(), kind, nullable, field));
+        }
+
+        Constructor<?> constructor = null;
+        if (forReading) {
+            try {
+                constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException(type.getName() + " needs a no-arg constructor", e);
+            }
+        }
+        return new Plan(EventSchemas.fingerprint(schema), steps.toArray(new Step[0]), constructor);
+    }
+
+    private static Kind kindOf(Schema schema, String fieldName) {
+        return switch (schema.getType()) {
+            case STRING -> Kind.STRING;
+            case INT -> Kind.INT;
+            case LONG -> schema.getLogicalType() != null && LOCAL_TIMESTAMP_MICROS.equals(schema.getLogicalType().getName())
+                    ? Kind.LOCAL_DATE_TIME
+                    : Kind.LONG;
+            case DOUBLE -> Kind.DOUBLE;
+            case BOOLEAN -> Kind.BOOLEAN;
+            case ARRAY -> {
+                if (schema.getElementType().getType() != Schema.Type.STRING) {
+                    throw new IllegalArgumentException("Only string arrays are supported, see " + fieldName);
+                }
+                yield Kind.STRING_ARRAY;
+            }
+            default -> throw new IllegalArgumentException("Unsupported type " + schema.getType() + " for " + fieldName);
+        };
+    }
+
+    private static Field findField(Class<?> type, String name, Kind kind) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            try {
+                Field field = current.getDeclaredField(name);
+                if (Modifier.isStatic(field.getModifiers()) || !accepts(field.getType(), kind)) {
+                    return null;
+                }
+                field.setAccessible(true);
+                return field;
+            } catch (NoSuchFieldException e) {
+                // Look in the superclass
+            }
+        }
+        return null;
+    }
+
+    private static boolean accepts(Class<?> type, Kind kind) {
+        return switch (kind) {
+            case STRING -> type == String.class;
+            case INT, LONG -> type == Long.class || type == long.class || type == Integer.class || type == int.class;
+            case DOUBLE -> type == Double.class || type == double.class;
+            case BOOLEAN -> type == Boolean.class || type == boolean.class;
+            case LOCAL_DATE_TIME -> type == LocalDateTime.class;
+            case STRING_ARRAY -> Collection.class.isAssignableFrom(type);
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package com.talentcloud.events.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Kafka value deserializer for {@link EventCodec} records.
+ * <p>
+ * The target class comes from {@link #VALUE_TYPE} in the consumer properties. Records that
+ * are not binary-encoded are read as JSON, so topics still holding records from before the
+ * switch keep being consumed.
+ */
+public class EventDeserializer implements Deserializer<Object> {
+
+    public static final String VALUE_TYPE = "talentcloud.event.value.type";
+
+    private static final ObjectMapper JSON = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final EventCodec codec;
+    private Class<?> type;
+
+    public EventDeserializer() {
+        this(EventCodec.getDefault());
+    }
+
+    public EventDeserializer(EventCodec codec) {
+        this.codec = codec;
+    }
+
+    public EventDeserializer(EventCodec codec, Class<?> type) {
+        this.codec = codec;
+        this.type = type;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        if (type != null) {
+            return;
+        }
+        Object configured = configs.get(VALUE_TYPE);
+        if (configured instanceof Class<?> configuredClass) {
+            type = configuredClass;
+        } else if (configured instanceof String className) {
+            try {
+                type = Class.forName(className, true, Thread.currentThread().getContextClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new IllegalArgumentException("Unknown event class " + className, e);
+            }
+        } else {
+            throw new IllegalArgumentException(VALUE_TYPE + " must name the event class");
+        }
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            if (EventCodec.isEncoded(data)) {
+                return codec.decode(data, type);
+            }
+            return JSON.readValue(data, type);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Could not decode " + type.getSimpleName() + " from " + topic, e);
+        }
+    }
+}
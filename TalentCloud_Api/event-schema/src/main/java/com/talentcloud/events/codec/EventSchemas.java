@@ -0,0 +1,95 @@
+package com.talentcloud.events.codec;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stand-in for a schema registry: every event schema shipped on the classpath under
+ * {@code schemas/}, addressed by its Avro parsing fingerprint.
+ * <p>
+ * Producers write with the latest schema of an event; consumers look the writer's schema up by
+ * the fingerprint in the record header, so a service only needs a jar with the schemas that were
+ * ever in use to read any record on the topic. Events are matched to schemas by simple class
+ * name, which lets every service keep its own copy of an event class.
+ */
+public final class EventSchemas {
+
+    public static final String NAMESPACE = "com.talentcloud.events";
+
+    private static final String INDEX = "schemas/index.txt";
+
+    private final Map<Long, Schema> byFingerprint = new HashMap<>();
+    private final Map<String, Schema> latestByName = new HashMap<>();
+
+    private EventSchemas() {
+    }
+
+    public static EventSchemas load() {
+        EventSchemas schemas = new EventSchemas();
+        ClassLoader classLoader = EventSchemas.class.getClassLoader();
+        try (InputStream index = classLoader.getResourceAsStream(INDEX)) {
+            if (index == null) {
+                throw new IllegalStateException(INDEX + " is missing from the classpath");
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(index, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    schemas.register(parse(classLoader, "schemas/" + line));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + INDEX, e);
+        }
+        return schemas;
+    }
+
+    public static long fingerprint(Schema schema) {
+        return SchemaNormalization.parsingFingerprint64(schema);
+    }
+
+    /**
+     * @return the schema producers use for an event class
+     * @throws IllegalArgumentException if no schema is named after the class
+     */
+    public Schema latestFor(Class<?> eventType) {
+        Schema schema = latestByName.get(NAMESPACE + "." + eventType.getSimpleName());
+        if (schema == null) {
+            throw new IllegalArgumentException("No event schema for " + eventType.getName());
+        }
+        return schema;
+    }
+
+    /**
+     * @return the schema a record was written with, or null when this build does not know it
+     */
+    public Schema byFingerprint(long fingerprint) {
+        return byFingerprint.get(fingerprint);
+    }
+
+    private void register(Schema schema) {
+        byFingerprint.put(fingerprint(schema), schema);
+        // Later index entries are newer versions
+        latestByName.put(schema.getFullName(), schema);
+    }
+
+    private static Schema parse(ClassLoader classLoader, String path) throws IOException {
+        try (InputStream in = classLoader.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("Schema " + path + " is listed in " + INDEX + " but missing");
+            }
+            // One parser per file, a parser refuses to see the same record name twice
+            return new Schema.Parser().parse(in);
+        }
+    }
+}
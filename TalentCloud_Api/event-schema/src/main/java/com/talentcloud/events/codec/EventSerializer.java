@@ -0,0 +1,32 @@
+package com.talentcloud.events.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Kafka value serializer writing events with {@link EventCodec}.
+ */
+public class EventSerializer implements Serializer<Object> {
+
+    private final EventCodec codec;
+
+    public EventSerializer() {
+        this(EventCodec.getDefault());
+    }
+
+    public EventSerializer(EventCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return codec.encode(data);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Could not encode " + data.getClass().getSimpleName() + " for " + topic, e);
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.talentcloud.events.codec;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventCodecTest {
+
+    private static final int HEADER_SIZE = 1 + Long.BYTES;
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2024, 5, 17, 10, 15, 30, 123_456_000);
+
+    private final EventSchemas schemas = EventSchemas.load();
+    private final EventCodec codec = new EventCodec(schemas);
+
+    static Stream<Class<?>> events() {
+        return Stream.of(JobOfferCreatedEvent.class, ApplicationSubmittedEvent.class, ApplicationStatusChangedEvent.class,
+                ProfileCreatedEvent.class, ClientProfileCreatedEvent.class, ProfileStatusChangedEvent.class,
+                CandidateSkillsChangedEvent.class);
+    }
+
+    @Test
+    void everyIndexedSchemaHasAnEventBelow() throws IOException {
+        Set<String> indexed = new HashSet<>();
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("schemas/index.txt")) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    indexed.add(line.substring(0, line.indexOf('.')));
+                }
+            }
+        }
+
+        assertEquals(indexed, events().map(Class::getSimpleName).collect(Collectors.toSet()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("events")
+    void roundTripsEveryField(Class<?> type) throws Exception {
+        Object event = sample(type);
+
+        Object decoded = codec.decode(codec.encode(event), type);
+
+        for (Field field : type.getDeclaredFields()) {
+            assertEquals(field.get(event), field.get(decoded), field.getName());
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("events")
+    void writesAvroBinaryOfTheLatestSchema(Class<?> type) throws Exception {
+        Schema schema = schemas.latestFor(type);
+        Object event = sample(type);
+
+        byte[] data = codec.encode(event);
+
+        assertTrue(EventCodec.isEncoded(data));
+        assertEquals(EventSchemas.fingerprint(schema), ByteBuffer.wrap(data, 1, Long.BYTES).getLong());
+        GenericRecord record = new GenericDatumReader<GenericRecord>(schema)
+                .read(null, DecoderFactory.get().binaryDecoder(data, HEADER_SIZE, data.length - HEADER_SIZE, null));
+        for (Schema.Field schemaField : schema.getFields()) {
+            assertEquals(avroValue(type.getField(schemaField.name()).get(event)),
+                    plain(record.get(schemaField.name())), schemaField.name());
+        }
+    }
+
+    @Test
+    void keepsNullFieldsNull() {
+        ApplicationSubmittedEvent decoded = codec.decode(codec.encode(new ApplicationSubmittedEvent()), ApplicationSubmittedEvent.class);
+
+        assertNull(decoded.eventId);
+        assertNull(decoded.timestamp);
+        assertNull(decoded.applicationId);
+    }
+
+    @Test
+    void skipsFieldsTheReaderLacks() throws Exception {
+        ProfileStatusChangedEvent event = (ProfileStatusChangedEvent) sample(ProfileStatusChangedEvent.class);
+
+        StatusWithoutUserType decoded = codec.decode(codec.encode(event), StatusWithoutUserType.class);
+
+        // userType sits between the fields that are read, so the decoder must move past it
+        assertEquals(event.userId, decoded.userId);
+        assertEquals(event.userEmail, decoded.userEmail);
+        assertEquals(event.profileStatus, decoded.profileStatus);
+        assertEquals(event.message, decoded.message);
+        assertNull(decoded.reason);
+    }
+
+    @Test
+    void skipsFieldsOfAnotherType() throws Exception {
+        ApplicationStatusChangedEvent event = (ApplicationStatusChangedEvent) sample(ApplicationStatusChangedEvent.class);
+
+        ApplicationIdAsString decoded = codec.decode(codec.encode(event), ApplicationIdAsString.class);
+
+        assertNull(decoded.applicationId);
+        assertEquals(event.newStatus, decoded.newStatus);
+    }
+
+    @Test
+    void promotesLongsToIntFields() {
+        ApplicationStatusChangedEvent event = new ApplicationStatusChangedEvent();
+        event.applicationId = 7L;
+        event.jobOfferId = 12L;
+
+        IntIds decoded = codec.decode(codec.encode(event), IntIds.class);
+
+        assertEquals(7, decoded.applicationId);
+        assertEquals(12, decoded.jobOfferId);
+    }
+
+    @Test
+    void readsStringArraysIntoListFields() {
+        CandidateSkillsChangedEvent event = new CandidateSkillsChangedEvent();
+        event.skills = new LinkedHashSet<>(List.of("Java", "SQL"));
+
+        SkillsAsList decoded = codec.decode(codec.encode(event), SkillsAsList.class);
+
+        assertEquals(List.of("Java", "SQL"), decoded.skills);
+    }
+
+    @Test
+    void rejectsAnUnknownSchema() {
+        byte[] data = codec.encode(new ProfileStatusChangedEvent());
+        ByteBuffer.wrap(data, 1, Long.BYTES).putLong(1, 0x0123456789abcdefL);
+
+        EventDeserializer deserializer = new EventDeserializer(codec, ProfileStatusChangedEvent.class);
+        assertThrows(SerializationException.class, () -> deserializer.deserialize("profile-status-changed", data));
+    }
+
+    @Test
+    void deserializerStillReadsJsonRecords() {
+        String json = "{\"eventId\":\"e-1\",\"timestamp\":\"2024-05-17T10:15:30.123456\",\"applicationId\":3," +
+                "\"candidateEmail\":\"ada@example.com\",\"addedLater\":true}";
+        EventDeserializer deserializer = new EventDeserializer(codec, ApplicationSubmittedEvent.class);
+
+        ApplicationSubmittedEvent decoded = (ApplicationSubmittedEvent)
+                deserializer.deserialize("application-submitted", json.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("e-1", decoded.eventId);
+        assertEquals(TIMESTAMP, decoded.timestamp);
+        assertEquals(3L, decoded.applicationId);
+        assertEquals("ada@example.com", decoded.candidateEmail);
+    }
+
+    @Test
+    void deserializerReadsBinaryRecords() throws Exception {
+        ApplicationSubmittedEvent event = (ApplicationSubmittedEvent) sample(ApplicationSubmittedEvent.class);
+        EventDeserializer deserializer = new EventDeserializer(codec, ApplicationSubmittedEvent.class);
+
+        ApplicationSubmittedEvent decoded = (ApplicationSubmittedEvent)
+                deserializer.deserialize("application-submitted", new EventSerializer(codec).serialize("application-submitted", event));
+
+        assertEquals(event.candidateName, decoded.candidateName);
+        assertEquals(event.timestamp, decoded.timestamp);
+    }
+
+    // Every field set, strings with non-ASCII characters and timestamps at full microsecond precision
+    private static Object sample(Class<?> type) throws Exception {
+        Object event = type.getDeclaredConstructor().newInstance();
+        long n = 0;
+        for (Field field : type.getDeclaredFields()) {
+            n++;
+            Class<?> fieldType = field.getType();
+            if (fieldType == String.class) {
+                field.set(event, field.getName() + " é " + n);
+            } else if (fieldType == Long.class) {
+                field.set(event, 1_000_000_000_000L + n);
+            } else if (fieldType == LocalDateTime.class) {
+                field.set(event, TIMESTAMP);
+            } else if (fieldType == Set.class) {
+                field.set(event, new LinkedHashSet<>(List.of("Java", "SQL", "C#")));
+            } else {
+                throw new IllegalArgumentException("No sample for " + field);
+            }
+        }
+        return event;
+    }
+
+    private static Object avroValue(Object value) {
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+        }
+        if (value instanceof Collection<?> items) {
+            return new ArrayList<>(items);
+        }
+        return value;
+    }
+
+    private static Object plain(Object avro) {
+        if (avro instanceof CharSequence text) {
+            return text.toString();
+        }
+        if (avro instanceof Collection<?> items) {
+            return items.stream().map(Object::toString).collect(Collectors.toList());
+        }
+        return avro;
+    }
+
+    // Stand-ins for the services' event classes, matched to their schema by simple name
+
+    public static class JobOfferCreatedEvent {
+        public String eventId;
+        public LocalDateTime timestamp;
+        public String eventType;
+        public Long jobOfferId;
+        public String clientId;
+        public String jobTitle;
+        public String jobDescription;
+        public String location;
+        public String employmentType;
+    }
+
+    public static class ApplicationSubmittedEvent {
+        public String eventId;
+        public LocalDateTime timestamp;
+        public String eventType;
+        public Long applicationId;
+        public Long jobOfferId;
+        public String candidateId;
+        public String candidateName;
+        public String candidateEmail;
+        public String clientId;
+        public String clientEmail;
+        public String jobTitle;
+    }
+
+    public static class ApplicationStatusChangedEvent {
+        public String eventId;
+        public LocalDateTime timestamp;
+        public String eventType;
+        public Long applicationId;
+        public Long jobOfferId;
+        public String candidateId;
+        public String candidateEmail;
+        public String clientId;
+        public String clientName;
+        public String jobTitle;
+        public String oldStatus;
+        public String newStatus;
+    }
+
+    public static class ProfileCreatedEvent {
+        public String userId;
+        public String email;
+        public String firstname;
+        public String profileType;
+        public String status;
+        public LocalDateTime createdAt;
+        public String candidateId;
+        public String jobTitle;
+        public String lastName;
+    }
+
+    public static class ClientProfileCreatedEvent {
+        public String userId;
+        public String email;
+        public String firstName;
+        public String lastName;
+        public String profileType;
+        public String status;
+        public LocalDateTime createdAt;
+        public String clientId;
+    }
+
+    public static class ProfileStatusChangedEvent {
+        public String userId;
+        public String userEmail;
+        public String userType;
+        public String profileStatus;
+        public String message;
+    }
+
+    public static class CandidateSkillsChangedEvent {
+        public String userId;
+        public Set<String> skills;
+    }
+
+    // Readers built against other versions of an event
+
+    public static class StatusWithoutUserType {
+        public String userId;
+        public String userEmail;
+        public String profileStatus;
+        public String message;
+        public String reason;
+    }
+
+    public static class ApplicationIdAsString {
+        public String applicationId;
+        public String newStatus;
+    }
+
+    public static class IntIds {
+        public int applicationId;
+        public Integer jobOfferId;
+    }
+
+    public static class SkillsAsList {
+        public List<String> skills;
+    }
+}
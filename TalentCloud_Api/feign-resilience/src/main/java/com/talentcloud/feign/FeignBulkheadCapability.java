@@ -0,0 +1,247 @@
+package com.talentcloud.feign;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Target;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Per-client concurrency bulkheads and optional request hedging for Feign calls.
+ * <p>
+ * Every Feign client name gets its own semaphore, so a slow dependency can only tie up the
+ * requests that call it. A call that finds no permit within max-wait-ms fails with
+ * {@link BulkheadFullException}, which Feign reports as a RetryableException.
+ * <p>
+ * With hedging enabled, a GET that has not answered after the client's recent p95 latency
+ * (never less than min-delay-ms) is sent once more, to whichever instance the load balancer
+ * picks next, and the first successful response wins. Hedging only starts once enough
+ * latencies have been seen, and is skipped when the bulkhead has no spare permit.
+ * <p>
+ * Settings per Feign client name:
+ * <ul>
+ *     <li>{@code feign.bulkhead.<name>.max-concurrent-calls}, default 50</li>
+ *     <li>{@code feign.bulkhead.<name>.max-wait-ms}, default 100</li>
+ *     <li>{@code feign.hedging.<name>.enabled}, default false</li>
+ *     <li>{@code feign.hedging.<name>.min-delay-ms}, default 50</li>
+ * </ul>
+ */
+public class FeignBulkheadCapability implements Capability {
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService attemptExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, ClientPolicy> policies = new ConcurrentHashMap<>();
+
+    public FeignBulkheadCapability(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public static class BulkheadFullException extends IOException {
+        public BulkheadFullException(String clientName) {
+            super("Too many concurrent calls to " + clientName);
+        }
+    }
+
+    private record ClientPolicy(String name, Semaphore permits, long maxWaitMs, boolean hedging,
+                                long minHedgeDelayNanos, LatencyWindow latencies,
+                                Counter rejected, Counter hedged) {
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            ClientPolicy policy = policies.computeIfAbsent(clientName(request), this::loadPolicy);
+            if (policy.hedging() && request.httpMethod() == Request.HttpMethod.GET) {
+                return executeHedged(client, request, options, policy);
+            }
+            acquire(policy);
+            try {
+                return client.execute(request, options);
+            } finally {
+                policy.permits().release();
+            }
+        };
+    }
+
+    private Response executeHedged(Client client, Request request, Request.Options options,
+                                   ClientPolicy policy) throws IOException {
+        acquire(policy);
+        CompletableFuture<Response> primary = attempt(client, request, options, policy);
+
+        long hedgeDelay = policy.latencies().p95();
+        if (hedgeDelay == 0) {
+            return await(primary);
+        }
+        try {
+            return primary.get(Math.max(hedgeDelay, policy.minHedgeDelayNanos()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Slower than usual, hedge below
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while calling " + policy.name());
+        }
+
+        if (!policy.permits().tryAcquire()) {
+            return await(primary);
+        }
+        policy.hedged().increment();
+        CompletableFuture<Response> hedge = attempt(client, request, options, policy);
+        return await(firstSuccessful(primary, hedge));
+    }
+
+    // The caller holds a permit, released once the attempt is done
+    private CompletableFuture<Response> attempt(Client client, Request request, Request.Options options,
+                                                ClientPolicy policy) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                Response response = client.execute(request, options);
+                policy.latencies().record(System.nanoTime() - start);
+                return response;
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            } finally {
+                policy.permits().release();
+            }
+        }, attemptExecutor);
+    }
+
+    private static CompletableFuture<Response> firstSuccessful(CompletableFuture<Response> primary,
+                                                               CompletableFuture<Response> hedge) {
+        CompletableFuture<Response> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        BiConsumer<Response, Throwable> onComplete = (response, error) -> {
+            if (error == null) {
+                if (!winner.complete(response)) {
+                    // Lost the race, give the pooled connection back
+                    response.close();
+                }
+            } else if (failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(error);
+            }
+        };
+        primary.whenComplete(onComplete);
+        hedge.whenComplete(onComplete);
+        return winner;
+    }
+
+    private void acquire(ClientPolicy policy) throws IOException {
+        try {
+            if (!policy.permits().tryAcquire(policy.maxWaitMs(), TimeUnit.MILLISECONDS)) {
+                policy.rejected().increment();
+                throw new BulkheadFullException(policy.name());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a " + policy.name() + " permit");
+        }
+    }
+
+    private static Response await(CompletableFuture<Response> response) throws IOException {
+        try {
+            return response.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a response");
+        }
+    }
+
+    private static IOException unwrap(Throwable e) {
+        Throwable cause = e;
+        while ((cause instanceof ExecutionException || cause instanceof CompletionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof IOException ioException) {
+            return ioException;
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        return new IOException(cause);
+    }
+
+    private ClientPolicy loadPolicy(String name) {
+        int maxConcurrentCalls = environment.getProperty("feign.bulkhead." + name + ".max-concurrent-calls", Integer.class, 50);
+        long maxWaitMs = environment.getProperty("feign.bulkhead." + name + ".max-wait-ms", Long.class, 100L);
+        boolean hedging = environment.getProperty("feign.hedging." + name + ".enabled", Boolean.class, false);
+        long minDelayMs = environment.getProperty("feign.hedging." + name + ".min-delay-ms", Long.class, 50L);
+
+        Semaphore permits = new Semaphore(maxConcurrentCalls);
+        Gauge.builder("feign.bulkhead.available", permits, Semaphore::availablePermits)
+                .description("Free concurrent call slots")
+                .tag("client", name)
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("feign.bulkhead.rejected")
+                .description("Calls rejected because the bulkhead was full")
+                .tag("client", name)
+                .register(meterRegistry);
+        Counter hedged = Counter.builder("feign.hedging.requests")
+                .description("Hedged second attempts")
+                .tag("client", name)
+                .register(meterRegistry);
+
+        return new ClientPolicy(name, permits, maxWaitMs, hedging, TimeUnit.MILLISECONDS.toNanos(minDelayMs),
+                new LatencyWindow(), rejected, hedged);
+    }
+
+    private static String clientName(Request request) {
+        Target<?> target = request.requestTemplate() == null ? null : request.requestTemplate().feignTarget();
+        return target == null ? "unknown" : target.name();
+    }
+
+    /**
+     * p95 over the last 256 successful attempts, recomputed every 32 samples.
+     */
+    static final class LatencyWindow {
+
+        private static final int SIZE = 256;
+        private static final int MIN_SAMPLES = 32;
+
+        private final long[] samples = new long[SIZE];
+        private int count;
+        private int next;
+        private volatile long p95;
+
+        synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % SIZE;
+            count = Math.min(count + 1, SIZE);
+            if (count >= MIN_SAMPLES && next % MIN_SAMPLES == 0) {
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                p95 = sorted[(int) Math.ceil(count * 0.95) - 1];
+            }
+        }
+
+        // 0 until enough samples were seen
+        long p95() {
+            return p95;
+        }
+    }
+}
@@ -5,10 +5,12 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.scheduling.annotation.EnableScheduling;
 @SpringBootApplication
 //@EnableDiscoveryClient
 @EnableFeignClients
 @EnableKafka  // Add this annotation to enable Kafka
+@EnableScheduling // Drives the outbox relay
 public class JobMsApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,17 @@
+package com.talentcloud.job.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class AsyncConfig {
+
+    // Remote profile-ms lookups are blocking Feign calls; a virtual thread per call makes fan-out cheap
+    @Bean(name = "profileLookupExecutor", destroyMethod = "close")
+    public ExecutorService profileLookupExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
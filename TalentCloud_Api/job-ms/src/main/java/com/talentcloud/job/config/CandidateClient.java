@@ -5,11 +5,17 @@ import com.talentcloud.job.dto.ClientDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
-@FeignClient(name = "profile-ms", configuration = FeignConfig.class)
+// Services get ResilientCandidateClient, which wraps this proxy in circuit breakers
+@FeignClient(name = "profile-ms", configuration = FeignConfig.class,
+        qualifiers = "candidateFeignClient", primary = false)
 public interface CandidateClient {
 
 //    // Existing endpoint (keep as is)
@@ -22,6 +28,11 @@ public interface CandidateClient {
     CandidateResponse getCandidateByUserId(@RequestHeader("X-User-Roles") String userType,
                                            @PathVariable("userId") String userId);
 
+    // Bulk lookup: one round-trip for a whole page of applicants
+    @PostMapping("/v1/candidates/candidate/by-userids")
+    List<CandidateResponse> getCandidatesByUserIds(@RequestHeader("X-User-Roles") String userType,
+                                                   @RequestBody Collection<String> userIds);
+
     @GetMapping("/v1/clients/email/by-userid/{userId}")
     Map<String, String> getClientEmailByUserId(@PathVariable("userId") String userId,
                                                @RequestHeader("X-User-Roles") String userType);
@@ -1,13 +1,17 @@
 package com.talentcloud.job.config;
 
+import com.talentcloud.feign.FeignBulkheadCapability;
+import feign.Capability;
 import feign.Logger;
 import feign.Request;
 import feign.RequestInterceptor;
 import feign.codec.ErrorDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -30,9 +34,21 @@ public class FeignConfig {
         };
     }
 
+    // Request and response bodies are no longer logged on every call, latency and errors
+    // are in the feign.client.* metrics instead. Raise to BASIC or FULL while debugging.
     @Bean
     public Logger.Level feignLoggerLevel() {
-        return Logger.Level.FULL;
+        return Logger.Level.NONE;
+    }
+
+    @Bean
+    public Capability feignMetricsCapability(MeterRegistry meterRegistry) {
+        return new FeignMetricsCapability(meterRegistry);
+    }
+
+    @Bean
+    public Capability feignBulkheadCapability(Environment environment, MeterRegistry meterRegistry) {
+        return new FeignBulkheadCapability(environment, meterRegistry);
     }
 
     @Bean
@@ -0,0 +1,87 @@
+package com.talentcloud.job.config;
+
+import feign.Capability;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.Response;
+import feign.Target;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every Feign call per client and interface method, and counts the failed ones.
+ * <ul>
+ *     <li>{@code feign.client.requests}: timer tagged client, method, outcome and status,
+ *     published with percentile histogram buckets</li>
+ *     <li>{@code feign.client.errors}: counter tagged client, method and error
+ *     (the HTTP status or the exception class)</li>
+ * </ul>
+ */
+public class FeignMetricsCapability implements Capability {
+
+    private final MeterRegistry meterRegistry;
+
+    public FeignMetricsCapability(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            String clientName = clientName(request);
+            String method = methodName(request);
+            long start = System.nanoTime();
+            try {
+                Response response = client.execute(request, options);
+                int status = response.status();
+                String outcome = status >= 500 ? "SERVER_ERROR" : status >= 400 ? "CLIENT_ERROR" : "SUCCESS";
+                record(clientName, method, outcome, String.valueOf(status), start);
+                if (status >= 400) {
+                    errors(clientName, method, String.valueOf(status)).increment();
+                }
+                return response;
+            } catch (IOException | RuntimeException e) {
+                record(clientName, method, "IO_ERROR", "NONE", start);
+                errors(clientName, method, e.getClass().getSimpleName()).increment();
+                throw e;
+            }
+        };
+    }
+
+    private void record(String clientName, String method, String outcome, String status, long start) {
+        Timer.builder("feign.client.requests")
+                .description("Feign call latency")
+                .tag("client", clientName)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private Counter errors(String clientName, String method, String error) {
+        return Counter.builder("feign.client.errors")
+                .description("Failed Feign calls")
+                .tag("client", clientName)
+                .tag("method", method)
+                .tag("error", error)
+                .register(meterRegistry);
+    }
+
+    private static String clientName(Request request) {
+        Target<?> target = request.requestTemplate() == null ? null : request.requestTemplate().feignTarget();
+        return target == null ? "unknown" : target.name();
+    }
+
+    // configKey is "CandidateClient#getCandidateByUserId(String,String)", which is bounded and readable
+    private static String methodName(Request request) {
+        MethodMetadata metadata = request.requestTemplate() == null ? null : request.requestTemplate().methodMetadata();
+        return metadata == null ? "unknown" : metadata.configKey();
+    }
+}
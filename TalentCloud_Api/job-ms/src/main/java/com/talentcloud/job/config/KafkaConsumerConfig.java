@@ -0,0 +1,114 @@
+package com.talentcloud.job.config;
+
+import com.talentcloud.events.codec.EventDeserializer;
+import com.talentcloud.job.events.CandidateSkillsChangedEvent;
+import com.talentcloud.job.events.ProfileStatusChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+@Configuration
+public class KafkaConsumerConfig {
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // Names this instance's own consumer groups; blank means the host name
+    @Value("${kafka.consumer.instance-id:}")
+    private String instanceId;
+
+    // -------------------- ProfileStatusChangedEvent --------------------
+    @Bean
+    public ConsumerFactory<String, ProfileStatusChangedEvent> profileStatusChangedEventConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        // Every instance keeps its own status cache, so every instance needs every event.
+        // The group is named after the instance, so a restart reuses it instead of leaving one behind.
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "job-ms-profile-status-" + instanceId());
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, EventDeserializer.class);
+        // Decoded onto our local copy of the event, matched by field name
+        props.put(EventDeserializer.VALUE_TYPE, ProfileStatusChangedEvent.class.getName());
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ProfileStatusChangedEvent> profileStatusChangedKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, ProfileStatusChangedEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(profileStatusChangedEventConsumerFactory());
+        useVirtualThreads(factory, "profile-status-");
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+                (record, ex) -> log.error("Dropping profile status record {}: {}", record.value(), ex.getMessage()),
+                new FixedBackOff(1000L, 3)));
+        return factory;
+    }
+
+    // -------------------- CandidateSkillsChangedEvent --------------------
+    @Bean
+    public ConsumerFactory<String, CandidateSkillsChangedEvent> candidateSkillsChangedEventConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        // Recommendations are kept per instance as well; candidates missed before startup are seeded on demand
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "job-ms-candidate-skills-" + instanceId());
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, EventDeserializer.class);
+        props.put(EventDeserializer.VALUE_TYPE, CandidateSkillsChangedEvent.class.getName());
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, CandidateSkillsChangedEvent> candidateSkillsChangedKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, CandidateSkillsChangedEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(candidateSkillsChangedEventConsumerFactory());
+        useVirtualThreads(factory, "candidate-skills-");
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+                (record, ex) -> log.error("Dropping candidate skills record {}: {}", record.value(), ex.getMessage()),
+                new FixedBackOff(1000L, 3)));
+        return factory;
+    }
+
+    private String instanceId() {
+        if (instanceId != null && !instanceId.isBlank()) {
+            return instanceId;
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("Host name unknown, set kafka.consumer.instance-id", e);
+        }
+    }
+
+    // Spring Boot only does this for the factory it auto-configures, not for ours
+    private void useVirtualThreads(ConcurrentKafkaListenerContainerFactory<?, ?> factory, String threadNamePrefix) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(executor);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.talentcloud.job.config;
+
+import feign.FeignException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ResilienceConfig {
+
+    // 4xx answers mean profile-ms is up, only timeouts, I/O errors and 5xx count against a breaker.
+    // State, call outcomes and failure rates are published as resilience4j.circuitbreaker.* metrics.
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${circuit-breaker.sliding-window-size:50}") int slidingWindowSize,
+            @Value("${circuit-breaker.minimum-calls:20}") int minimumCalls,
+            @Value("${circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${circuit-breaker.slow-call-ms:2000}") long slowCallMs,
+            @Value("${circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+            @Value("${circuit-breaker.open-seconds:15}") long openSeconds) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallMs))
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .waitDurationInOpenState(Duration.ofSeconds(openSeconds))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .ignoreExceptions(FeignException.FeignClientException.class)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+}
@@ -0,0 +1,155 @@
+package com.talentcloud.job.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.talentcloud.job.dto.CandidateResponse;
+import com.talentcloud.job.dto.ClientDto;
+import feign.FeignException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The {@link CandidateClient} services get injected: the Feign client behind one circuit breaker
+ * per method, named {@code profile-ms.<method>}.
+ * <p>
+ * When a breaker is open the call fails fast with CallNotPermittedException instead of waiting
+ * out the Feign timeout. Candidate profiles and client emails, which are only used to enrich
+ * events and responses, are then served from a bounded cache of the last successful answers.
+ * Profile statuses gate applications and job creation, so they are never served stale.
+ */
+@Slf4j
+@Primary
+@Component
+public class ResilientCandidateClient implements CandidateClient {
+
+    private final CandidateClient delegate;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, CandidateResponse> lastKnownCandidates;
+    private final Cache<String, Map<String, String>> lastKnownClientEmails;
+
+    public ResilientCandidateClient(@Qualifier("candidateFeignClient") CandidateClient delegate,
+                                    CircuitBreakerRegistry circuitBreakerRegistry,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${profile-ms.stale-cache.maximum-size:10000}") long maximumSize,
+                                    @Value("${profile-ms.stale-cache.ttl-hours:24}") long ttlHours) {
+        this.delegate = delegate;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.meterRegistry = meterRegistry;
+        this.lastKnownCandidates = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofHours(ttlHours))
+                .build();
+        this.lastKnownClientEmails = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofHours(ttlHours))
+                .build();
+    }
+
+    @Override
+    public CandidateResponse getCandidateByUserId(String userType, String userId) {
+        return call("getCandidateByUserId",
+                () -> {
+                    CandidateResponse candidate = delegate.getCandidateByUserId(userType, userId);
+                    if (candidate != null) {
+                        lastKnownCandidates.put(userId, candidate);
+                    }
+                    return candidate;
+                },
+                () -> lastKnownCandidates.getIfPresent(userId));
+    }
+
+    @Override
+    public List<CandidateResponse> getCandidatesByUserIds(String userType, Collection<String> userIds) {
+        return call("getCandidatesByUserIds",
+                () -> {
+                    List<CandidateResponse> candidates = delegate.getCandidatesByUserIds(userType, userIds);
+                    if (candidates != null) {
+                        for (CandidateResponse candidate : candidates) {
+                            if (candidate != null && candidate.getUserId() != null) {
+                                lastKnownCandidates.put(candidate.getUserId(), candidate);
+                            }
+                        }
+                    }
+                    return candidates;
+                },
+                () -> {
+                    // Whatever part of the batch is known, callers already handle missing candidates
+                    Map<String, CandidateResponse> known = lastKnownCandidates.getAllPresent(userIds);
+                    return known.isEmpty() ? null : new ArrayList<>(known.values());
+                });
+    }
+
+    @Override
+    public Map<String, String> getClientEmailByUserId(String userId, String userType) {
+        return call("getClientEmailByUserId",
+                () -> {
+                    Map<String, String> response = delegate.getClientEmailByUserId(userId, userType);
+                    if (response != null) {
+                        lastKnownClientEmails.put(userId, response);
+                    }
+                    return response;
+                },
+                () -> lastKnownClientEmails.getIfPresent(userId));
+    }
+
+    @Override
+    public String getCandidateProfileStatus(String userId, String userType) {
+        return call("getCandidateProfileStatus", () -> delegate.getCandidateProfileStatus(userId, userType), null);
+    }
+
+    @Override
+    public String getClientProfileStatus(String userId, String userType) {
+        return call("getClientProfileStatus", () -> delegate.getClientProfileStatus(userId, userType), null);
+    }
+
+    @Override
+    public ClientDto getClientById(String clientId) {
+        return call("getClientById", () -> delegate.getClientById(clientId), null);
+    }
+
+    /**
+     * @param remoteCall records its answer as the last known value itself, so a stale value served
+     *                   here never renews its own expiry
+     * @param lastKnown looked up when the call fails or the breaker is open; null, or a null
+     *                  result, rethrows the failure
+     */
+    private <T> T call(String method, Supplier<T> remoteCall, Supplier<T> lastKnown) {
+        try {
+            return circuitBreakerRegistry.circuitBreaker("profile-ms." + method).executeSupplier(remoteCall);
+        } catch (FeignException.FeignClientException e) {
+            // A 4xx answer, profile-ms is reachable and the caller handles it
+            throw e;
+        } catch (RuntimeException e) {
+            T value = lastKnown == null ? null : lastKnown.get();
+            if (value == null) {
+                fallbackCounter(method, "fail_fast").increment();
+                throw e;
+            }
+            log.warn("profile-ms {} failed ({}), serving the last known value", method, e.getMessage());
+            fallbackCounter(method, "stale").increment();
+            return value;
+        }
+    }
+
+    private Counter fallbackCounter(String method, String outcome) {
+        return Counter.builder("profile-ms.client.fallbacks")
+                .description("profile-ms calls that failed or were short-circuited")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
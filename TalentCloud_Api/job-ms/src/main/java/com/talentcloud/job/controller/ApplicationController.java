@@ -2,18 +2,24 @@ package com.talentcloud.job.controller;
 
 import com.talentcloud.job.config.CandidateClient;
 import com.talentcloud.job.dto.*;
+import com.talentcloud.job.exception.ApplicationAccessDeniedException;
 import com.talentcloud.job.exception.ApplicationAlreadyExistsException;
 import com.talentcloud.job.iservice.IServiceApplication;
 import com.talentcloud.job.iservice.IServiceJobOffer;
 import com.talentcloud.job.model.JobOffer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 @Slf4j
 @RestController
@@ -59,10 +65,21 @@ public class ApplicationController {
     }
 
     @GetMapping("/job/{jobOfferId}")
-    public ResponseEntity<List<ApplicationResponse>> getApplicationsForJob(
+    public ResponseEntity<?> getApplicationsForJob(
             @RequestHeader("X-User-Id") String userId,
             @RequestHeader("X-User-Roles") String rolesHeader,
-            @PathVariable Long jobOfferId) {
+            @PathVariable Long jobOfferId,
+            @RequestParam(required = false) String sort) {
+
+        if (sort != null && !"match".equalsIgnoreCase(sort)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(
+                            "Unsupported sort: " + sort + " (supported: match)",
+                            "Bad Request",
+                            LocalDateTime.now(),
+                            HttpStatus.BAD_REQUEST.value()
+                    ));
+        }
 
         // Check if user is client (job owner) or admin
         if (!Arrays.asList(rolesHeader.split(",")).contains("Client") &&
@@ -83,8 +100,104 @@ public class ApplicationController {
         }
 
         // Get applications for the job
-        List<ApplicationResponse> applications = applicationService.getApplicationsByJobId(jobOfferId);
-        return ResponseEntity.ok(applications);
+        if (sort == null) {
+            List<ApplicationResponse> applications = applicationService.getApplicationsByJobId(jobOfferId);
+            return ResponseEntity.ok(applications);
+        }
+
+        try {
+            List<ApplicationResponse> applications = applicationService.getApplicationsByJobIdRankedByMatch(jobOfferId);
+            return ResponseEntity.ok(applications);
+        } catch (Exception e) {
+            log.error("Error ranking applications for job {} by skill match", jobOfferId, e);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(new ErrorResponse(
+                            "Could not load candidate skills",
+                            "Service Unavailable",
+                            LocalDateTime.now(),
+                            HttpStatus.SERVICE_UNAVAILABLE.value()
+                    ));
+        }
+    }
+
+    @GetMapping("/job/{jobOfferId}/with-candidates")
+    public ResponseEntity<?> getApplicationsWithCandidatesForJob(
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String rolesHeader,
+            @PathVariable Long jobOfferId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        // Check if user is client (job owner) or admin
+        if (!Arrays.asList(rolesHeader.split(",")).contains("Client") &&
+                !Arrays.asList(rolesHeader.split(",")).contains("Admin")) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        // Ownership is checked once for the whole page
+        Optional<JobOffer> jobOffer = jobOfferService.getJobOfferById(jobOfferId);
+        if (jobOffer.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        if (Arrays.asList(rolesHeader.split(",")).contains("Client") &&
+                !jobOffer.get().getClientId().equals(userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        try {
+            JobApplicantsPage result = applicationService.getApplicantsForJob(jobOfferId, page, size);
+            result.setJobOffer(JobOfferResponse.fromEntity(jobOffer.get()));
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            log.error("Error fetching candidate details for job {}, page {}", jobOfferId, page, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(
+                            "Could not load candidate details",
+                            "Internal Server Error",
+                            LocalDateTime.now(),
+                            HttpStatus.INTERNAL_SERVER_ERROR.value()
+                    ));
+        }
+    }
+
+    @GetMapping("/job/{jobOfferId}/export")
+    public ResponseEntity<StreamingResponseBody> exportApplicationsForJob(
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String rolesHeader,
+            @PathVariable Long jobOfferId,
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        // Check if user is client (job owner) or admin
+        if (!Arrays.asList(rolesHeader.split(",")).contains("Client") &&
+                !Arrays.asList(rolesHeader.split(",")).contains("Admin")) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        ApplicationExportFormat exportFormat;
+        try {
+            exportFormat = ApplicationExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Optional<JobOffer> jobOffer = jobOfferService.getJobOfferById(jobOfferId);
+        if (jobOffer.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        if (Arrays.asList(rolesHeader.split(",")).contains("Client") &&
+                !jobOffer.get().getClientId().equals(userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        // Rows are written as they are read from the database cursor
+        StreamingResponseBody body = out -> applicationService.exportApplicationsByJobId(jobOfferId, exportFormat, out);
+        String filename = "applications-job-" + jobOfferId + "." + exportFormat.getFileExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
     }
 
     @GetMapping("/{applicationId}/candidate-details")
@@ -193,6 +306,44 @@ public class ApplicationController {
         return ResponseEntity.ok(updatedApp);
     }
 
+    @PutMapping("/bulk-status")
+    public ResponseEntity<?> updateApplicationStatuses(
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader("X-User-Roles") String rolesHeader,
+            @RequestBody BulkUpdateStatusDto statusDto) {
+
+        // Check if user is client (job owner) or admin
+        if (!Arrays.asList(rolesHeader.split(",")).contains("Client") &&
+                !Arrays.asList(rolesHeader.split(",")).contains("Admin")) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        // Clients may only touch applications to their own job offers, checked by the service in one query
+        String ownerClientId = Arrays.asList(rolesHeader.split(",")).contains("Client") ? userId : null;
+
+        try {
+            BulkStatusUpdateResponse result = applicationService.updateApplicationStatuses(
+                    statusDto.getApplicationIds(), statusDto.getStatus(), ownerClientId);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(
+                            e.getMessage(),
+                            "Bad Request",
+                            LocalDateTime.now(),
+                            HttpStatus.BAD_REQUEST.value()
+                    ));
+        } catch (ApplicationAccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(new ErrorResponse(
+                            e.getMessage(),
+                            "Forbidden",
+                            LocalDateTime.now(),
+                            HttpStatus.FORBIDDEN.value()
+                    ));
+        }
+    }
+
 
 
 //    @GetMapping("/candidate/{candidateId}")
@@ -1,15 +1,27 @@
 package com.talentcloud.job.controller;
 
+import com.talentcloud.job.dto.ClientApplicationStatsResponse;
 import com.talentcloud.job.dto.CreateJobOfferDto;
 import com.talentcloud.job.dto.ErrorResponse;
 import com.talentcloud.job.dto.JobOfferClientView;
+import com.talentcloud.job.dto.JobOfferDetail;
+import com.talentcloud.job.dto.JobOfferFeedPage;
+import com.talentcloud.job.dto.JobOfferSearchResponse;
+import com.talentcloud.job.dto.JobOfferSkillFilterPage;
+import com.talentcloud.job.dto.JobRecommendationFeed;
 import com.talentcloud.job.dto.UpdateJobOfferDto;
+import com.talentcloud.job.model.EmploymentType;
 import com.talentcloud.job.model.JobOffer;
+import com.talentcloud.job.model.RequiredSkill;
 import com.talentcloud.job.iservice.IServiceJobOffer;
 import com.talentcloud.job.service.JobOfferService;
+import feign.FeignException;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,6 +29,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @CrossOrigin(origins = "http://localhost:5173")
 @RestController
@@ -83,11 +96,13 @@ public class JobOfferController {
 
 
     @GetMapping("/{jobOfferId}")
-    public ResponseEntity<?> getJobOfferById(@PathVariable Long jobOfferId) {
+    public ResponseEntity<?> getJobOfferById(
+            @PathVariable Long jobOfferId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         System.out.println("GetById - jobOfferId: " + jobOfferId);
 
-        Optional<JobOffer> optionalJobOffer = jobOfferService.getJobOfferById(jobOfferId);
+        Optional<JobOfferDetail> optionalJobOffer = jobOfferService.getJobOfferDetail(jobOfferId);
 
         if (optionalJobOffer.isEmpty()) {
             ErrorResponse errorResponse = new ErrorResponse(
@@ -99,10 +114,34 @@ public class JobOfferController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
         }
 
-        JobOffer jobOffer = optionalJobOffer.get();
+        JobOfferDetail jobOffer = optionalJobOffer.get();
 
-        // Public endpoint - anyone can view any job offer
-        return ResponseEntity.ok(jobOffer);
+        // Public endpoint - anyone can view any job offer.
+        // no-cache makes browsers revalidate, which costs a 304 without a body once they hold the ETag.
+        if (etagMatches(ifNoneMatch, jobOffer.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(jobOffer.getEtag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(jobOffer.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jobOffer.getBody());
+    }
+
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     // Modify the client endpoint to make it more robust
@@ -115,6 +154,31 @@ public class JobOfferController {
         List<JobOffer> jobOffers = jobOfferService.getJobOffersByClientId(clientId);
         return ResponseEntity.ok(jobOffers);
     }
+
+    @GetMapping("/client/{clientId}/stats")
+    public ResponseEntity<?> getApplicationStatsByClientId(
+            @RequestHeader(value = "X-User-Id", required = false) String userId,
+            @RequestHeader(value = "X-User-Roles", required = false) String rolesHeader,
+            @PathVariable String clientId) {
+
+        // Only the client itself or an admin can see applicant counts
+        boolean isAdmin = rolesHeader != null && Arrays.asList(rolesHeader.split(",")).contains("Admin");
+        boolean isOwner = rolesHeader != null && Arrays.asList(rolesHeader.split(",")).contains("Client")
+                && clientId.equals(userId);
+        if (!isAdmin && !isOwner) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(new ErrorResponse(
+                            "Only the client or an admin can view these statistics",
+                            "Forbidden",
+                            LocalDateTime.now(),
+                            HttpStatus.FORBIDDEN.value()
+                    ));
+        }
+
+        ClientApplicationStatsResponse stats = jobOfferService.getApplicationStatsByClientId(clientId);
+        return ResponseEntity.ok(stats);
+    }
+
     @DeleteMapping("/{jobOfferId}")
     public ResponseEntity<?> deleteJobOffer(
             @RequestHeader(value = "X-User-Id", required = false) String userId,
@@ -239,13 +303,94 @@ public class JobOfferController {
 
     @GetMapping("/all")
     public ResponseEntity<?> getAllJobOffers(
-            @RequestHeader(value = "X-User-Roles", required = false) String rolesHeader) {
+            @RequestHeader(value = "X-User-Roles", required = false) String rolesHeader,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
 
         System.out.println("GetAll - X-User-Roles: " + rolesHeader);
 
-        // All roles can view all job offers
-        List<JobOffer> jobOffers = jobOfferService.getAllJobOffers();
-        return ResponseEntity.ok(jobOffers);
+        // All roles can view all job offers, one page at a time
+        try {
+            JobOfferFeedPage page = jobOfferService.getJobOfferFeed(cursor, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(
+                            e.getMessage(),
+                            "Bad Request",
+                            LocalDateTime.now(),
+                            HttpStatus.BAD_REQUEST.value()
+                    ));
+        }
+    }
+
+    @GetMapping("/filter")
+    public ResponseEntity<?> filterJobOffersBySkills(
+            @RequestParam(value = "all", required = false) Set<RequiredSkill> allSkills,
+            @RequestParam(value = "any", required = false) Set<RequiredSkill> anySkills,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        try {
+            JobOfferSkillFilterPage result = jobOfferService.filterJobOffersBySkills(allSkills, anySkills, page, size);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(
+                            e.getMessage(),
+                            "Bad Request",
+                            LocalDateTime.now(),
+                            HttpStatus.BAD_REQUEST.value()
+                    ));
+        }
+    }
+
+    @GetMapping("/recommendations")
+    public ResponseEntity<?> getRecommendations(
+            @RequestHeader(value = "X-User-Id", required = false) String userId,
+            @RequestHeader(value = "X-User-Roles", required = false) String rolesHeader,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        // Recommendations are personal, only a candidate can read its own feed
+        if (userId == null || rolesHeader == null || !Arrays.asList(rolesHeader.split(",")).contains("Candidate")) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(new ErrorResponse(
+                            "Only candidates have job recommendations",
+                            "Forbidden",
+                            LocalDateTime.now(),
+                            HttpStatus.FORBIDDEN.value()
+                    ));
+        }
+
+        try {
+            JobRecommendationFeed feed = jobOfferService.getRecommendations(userId, limit);
+            return ResponseEntity.ok(feed);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(
+                            e.getMessage(),
+                            "Bad Request",
+                            LocalDateTime.now(),
+                            HttpStatus.BAD_REQUEST.value()
+                    ));
+        } catch (FeignException.NotFound e) {
+            // No candidate profile yet
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<JobOfferSearchResponse> searchJobOffers(
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) EmploymentType employmentType,
+            @RequestParam(required = false) Set<String> skills,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        // Public endpoint - served from the in-memory index, never hits the database
+        JobOfferSearchResponse response = jobOfferService.searchJobOffers(query, location, employmentType, skills, offset, limit);
+        return ResponseEntity.ok(response);
     }
 
 //    @GetMapping("/views")
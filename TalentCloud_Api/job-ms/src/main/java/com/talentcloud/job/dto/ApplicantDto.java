@@ -0,0 +1,13 @@
+package com.talentcloud.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantDto {
+    private ApplicationResponse application;
+    private CandidateResponse candidate; // null when the candidate profile no longer exists
+}
@@ -0,0 +1,22 @@
+package com.talentcloud.job.dto;
+
+import com.talentcloud.job.model.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An application joined with the owner and title of its job offer,
+ * enough to authorize and describe a status change without loading either entity.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationOwnership {
+    private Long applicationId;
+    private Long jobOfferId;
+    private String candidateId;
+    private Status status;
+    private String clientId;
+    private String jobTitle;
+}
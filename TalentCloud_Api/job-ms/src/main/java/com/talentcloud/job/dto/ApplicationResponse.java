@@ -1,5 +1,6 @@
 package com.talentcloud.job.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -11,4 +12,6 @@ public class ApplicationResponse {
     private String candidateId; // Not Long
     private String status;
     private LocalDateTime appliedAt;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double matchScore;  // Only set when ranking by skill match
 }
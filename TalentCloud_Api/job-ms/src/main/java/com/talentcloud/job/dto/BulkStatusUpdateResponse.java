@@ -0,0 +1,17 @@
+package com.talentcloud.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResponse {
+    private String status;
+    private List<Long> updated;
+    private List<Long> unchanged; // Already in the requested status
+    private List<Long> notFound;
+}
@@ -0,0 +1,16 @@
+package com.talentcloud.job.dto;
+
+import com.talentcloud.job.model.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateStatusDto {
+    private List<Long> applicationIds;
+    private Status status;
+}
@@ -0,0 +1,18 @@
+package com.talentcloud.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientApplicationStatsResponse {
+    private String clientId;
+    private long total;
+    private Map<String, Long> byStatus; // Summed over all of the client's job offers
+    private List<JobApplicationStatsResponse> jobs;
+}
@@ -0,0 +1,20 @@
+package com.talentcloud.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplicantsPage {
+    private JobOfferResponse jobOffer;
+    private List<ApplicantDto> applicants;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    private boolean hasNext;
+}
@@ -0,0 +1,16 @@
+package com.talentcloud.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplicationStatsResponse {
+    private Long jobOfferId;
+    private long total;
+    private Map<String, Long> byStatus;
+}
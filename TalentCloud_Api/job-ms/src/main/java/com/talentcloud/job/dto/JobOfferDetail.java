@@ -0,0 +1,16 @@
+package com.talentcloud.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A job offer as served by GET /v1/job-offers/{jobOfferId}: its JSON body serialized once,
+ * and a strong ETag derived from that body.
+ * Instances are shared through JobOfferDetailCache and must not be modified.
+ */
+@Getter
+@AllArgsConstructor
+public class JobOfferDetail {
+    private final byte[] body;
+    private final String etag;
+}
@@ -0,0 +1,16 @@
+package com.talentcloud.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobOfferFeedPage {
+    private List<JobOfferSummary> items;
+    private String nextCursor; // Opaque, pass it back as ?cursor= to get the next page
+    private boolean hasMore;
+}
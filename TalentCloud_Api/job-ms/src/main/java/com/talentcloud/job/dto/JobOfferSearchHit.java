@@ -0,0 +1,13 @@
+package com.talentcloud.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobOfferSearchHit {
+    private JobOfferSummary jobOffer;
+    private double score;
+}
@@ -0,0 +1,19 @@
+package com.talentcloud.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobOfferSearchResponse {
+    private long total;
+    private List<JobOfferSearchHit> hits;
+    // facet name (employmentType, location, requiredSkills) -> value -> number of matching offers
+    private Map<String, Map<String, Long>> facets;
+    private long tookMs;
+}
@@ -0,0 +1,43 @@
+package com.talentcloud.job.dto;
+
+import com.talentcloud.job.model.EmploymentType;
+import com.talentcloud.job.model.JobOffer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Lightweight list view of a job offer used by the paginated feed.
+ * The description is left out on purpose; the full entity is served by /{jobOfferId}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobOfferSummary {
+    private Long jobOfferId;
+    private String clientId;
+    private String title;
+    private String location;
+    private String salaryRange;
+    private String requiredExperience;
+    private Set<String> requiredSkills;
+    private EmploymentType employmentType;
+    private LocalDateTime createdAt;
+
+    public static JobOfferSummary fromEntity(JobOffer jobOffer) {
+        return new JobOfferSummary(
+                jobOffer.getJobOfferId(),
+                jobOffer.getClientId(),
+                jobOffer.getTitle(),
+                jobOffer.getLocation(),
+                jobOffer.getSalaryRange(),
+                jobOffer.getRequiredExperience(),
+                jobOffer.getRequiredSkills() == null ? new HashSet<>() : new HashSet<>(jobOffer.getRequiredSkills()),
+                jobOffer.getEmploymentType(),
+                jobOffer.getCreatedAt());
+    }
+}
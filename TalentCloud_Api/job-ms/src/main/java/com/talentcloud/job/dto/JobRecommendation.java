@@ -0,0 +1,18 @@
+package com.talentcloud.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A recommended job offer. The score is the share of the offer's required skills
+ * the candidate has, from 0 (exclusive) to 1.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRecommendation {
+    private JobOfferSummary jobOffer;
+    private double score;
+    private int matchedSkills;
+}
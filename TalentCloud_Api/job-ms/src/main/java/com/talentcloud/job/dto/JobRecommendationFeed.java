@@ -0,0 +1,15 @@
+package com.talentcloud.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRecommendationFeed {
+    private String candidateId;
+    private List<JobRecommendation> recommendations;
+}
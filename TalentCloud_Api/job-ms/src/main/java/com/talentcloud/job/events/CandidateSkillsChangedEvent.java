@@ -0,0 +1,18 @@
+package com.talentcloud.job.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * Published by profile-ms on candidate-skills-topic whenever a candidate's skills change.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateSkillsChangedEvent {
+    private String userId;
+    private Set<String> skills;   // The full current set, empty once the profile is deleted
+}
@@ -0,0 +1,19 @@
+package com.talentcloud.job.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Published by profile-ms on candidate-profile-status-topic and client-profile-status-topic.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileStatusChangedEvent {
+    private String userId;
+    private String userEmail;
+    private String userType;     // "CLIENT" or "CANDIDATE"
+    private String profileStatus; // "APPROVED" or "REJECTED"
+    private String message;
+}
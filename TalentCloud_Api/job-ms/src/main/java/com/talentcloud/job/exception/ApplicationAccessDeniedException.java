@@ -0,0 +1,7 @@
+package com.talentcloud.job.exception;
+
+public class ApplicationAccessDeniedException extends RuntimeException {
+    public ApplicationAccessDeniedException(String message) {
+        super(message);
+    }
+}
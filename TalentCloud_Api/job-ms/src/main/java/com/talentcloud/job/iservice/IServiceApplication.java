@@ -1,9 +1,14 @@
 package com.talentcloud.job.iservice;
 
+import com.talentcloud.job.dto.ApplicationExportFormat;
 import com.talentcloud.job.dto.ApplicationResponse;
+import com.talentcloud.job.dto.BulkStatusUpdateResponse;
 import com.talentcloud.job.dto.CreateApplicationDto;
+import com.talentcloud.job.dto.JobApplicantsPage;
 import com.talentcloud.job.model.Status;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface IServiceApplication {
@@ -33,6 +38,36 @@ public interface IServiceApplication {
      */
     List<ApplicationResponse> getApplicationsByJobId(Long jobOfferId);
 
+    /**
+     * Get all applications for a specific job, ranked by how much of the job offer's
+     * required skills each candidate has
+     *
+     * @param jobOfferId the ID of the job offer
+     * @return the application responses with their match score, best match first
+     */
+    List<ApplicationResponse> getApplicationsByJobIdRankedByMatch(Long jobOfferId);
+
+    /**
+     * Get one page of a job's applications together with the candidate profiles,
+     * fetched from profile-ms in a single bulk call
+     *
+     * @param jobOfferId the ID of the job offer
+     * @param page the zero-based page number
+     * @param size the page size
+     * @return the applicants page (the job offer itself is left for the caller to fill in)
+     */
+    JobApplicantsPage getApplicantsForJob(Long jobOfferId, int page, int size);
+
+    /**
+     * Write every application for a job to the given stream, one row at a time,
+     * without holding the full result in memory
+     *
+     * @param jobOfferId the ID of the job offer
+     * @param format NDJSON (one ApplicationResponse per line) or CSV with a header row
+     * @param out the stream to write to; it is flushed but not closed
+     */
+    void exportApplicationsByJobId(Long jobOfferId, ApplicationExportFormat format, OutputStream out) throws IOException;
+
     /**
      * Get all applications submitted by a candidate
      *
@@ -49,4 +84,14 @@ public interface IServiceApplication {
      * @return the updated application response
      */
     ApplicationResponse updateApplicationStatus(Long applicationId, Status status);
+
+    /**
+     * Move several applications to the same status at once
+     *
+     * @param applicationIds the IDs of the applications
+     * @param status the new status
+     * @param ownerClientId when not null, every application must belong to a job offer of this client
+     * @return which applications were updated, already had the status, or do not exist
+     */
+    BulkStatusUpdateResponse updateApplicationStatuses(List<Long> applicationIds, Status status, String ownerClientId);
 }
\ No newline at end of file
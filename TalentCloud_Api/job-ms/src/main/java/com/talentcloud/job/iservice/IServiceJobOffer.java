@@ -1,30 +1,100 @@
 package com.talentcloud.job.iservice;
 
+import com.talentcloud.job.dto.ClientApplicationStatsResponse;
 import com.talentcloud.job.dto.CreateJobOfferDto;
 import com.talentcloud.job.dto.JobOfferClientView;
+import com.talentcloud.job.dto.JobOfferDetail;
+import com.talentcloud.job.dto.JobOfferFeedPage;
 import com.talentcloud.job.dto.JobOfferResponse;
+import com.talentcloud.job.dto.JobOfferSearchResponse;
+import com.talentcloud.job.dto.JobOfferSkillFilterPage;
+import com.talentcloud.job.dto.JobRecommendationFeed;
 import com.talentcloud.job.dto.UpdateJobOfferDto;
+import com.talentcloud.job.model.EmploymentType;
 import com.talentcloud.job.model.JobOffer;
+import com.talentcloud.job.model.RequiredSkill;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface IServiceJobOffer {
 
     // Changed parameter type from Long to String
     JobOffer createJobOffer(CreateJobOfferDto dto, String clientId);
 
+    // Served from JobOfferDetailCache; the returned offer is shared and must not be modified
     Optional<JobOffer> getJobOfferById(Long jobOfferId);
 
+    /**
+     * The cached, pre-serialized representation of a job offer with its ETag.
+     *
+     * @param jobOfferId the ID of the job offer
+     * @return the detail, or empty when the offer does not exist
+     */
+    Optional<JobOfferDetail> getJobOfferDetail(Long jobOfferId);
+
     // Changed parameter type from Long to String
     List<JobOffer> getJobOffersByClientId(String clientId);
 
-    List<JobOffer> getAllJobOffers();
+    /**
+     * Page through all job offers, newest first.
+     *
+     * @param cursor the opaque cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of offers to return
+     * @return the page of job offer summaries and the cursor for the next page
+     */
+    JobOfferFeedPage getJobOfferFeed(String cursor, int limit);
+
+    /**
+     * Application counts per status for each of a client's job offers, read from the
+     * incrementally maintained stats table.
+     *
+     * @param clientId the client whose job offers to report on
+     * @return per-job and overall counts
+     */
+    ClientApplicationStatsResponse getApplicationStatsByClientId(String clientId);
 
     JobOffer updateJobOffer(Long jobOfferId, UpdateJobOfferDto dto) throws Exception;
 
     void deleteJobOffer(Long jobOfferId) throws Exception;
 
+    /**
+     * Full-text search over title, description, location, employment type and required skills.
+     *
+     * @param query free text, ranked with BM25; blank matches every offer
+     * @param location optional exact location filter (case-insensitive)
+     * @param employmentType optional employment type filter
+     * @param skills optional skills that every result must require
+     * @param offset the number of hits to skip
+     * @param limit the maximum number of hits to return
+     * @return the ranked hits with facet counts over all matching offers
+     */
+    JobOfferSearchResponse searchJobOffers(String query, String location, EmploymentType employmentType,
+                                           Set<String> skills, int offset, int limit);
+
+    /**
+     * Filter job offers by required skills, newest first.
+     * At least one of the two skill sets must be non-empty.
+     *
+     * @param allSkills skills that every result must require
+     * @param anySkills skills of which every result must require at least one
+     * @param page the zero-based page number
+     * @param size the page size
+     * @return the matching job offer summaries
+     */
+    JobOfferSkillFilterPage filterJobOffersBySkills(Set<RequiredSkill> allSkills, Set<RequiredSkill> anySkills,
+                                                    int page, int size);
+
+    /**
+     * Precomputed job recommendations for a candidate, best match first.
+     *
+     * @param candidateId the candidate's userId
+     * @param limit the maximum number of recommendations to return
+     * @return at most {@code limit} recommendations, capped by recommendations.top-k
+     */
+    JobRecommendationFeed getRecommendations(String candidateId, int limit);
+
     JobOfferResponse mapToJobOfferResponse(JobOffer jobOffer);
 
     /// ///
@@ -0,0 +1,25 @@
+package com.talentcloud.job.kafka;
+
+import com.talentcloud.job.events.CandidateSkillsChangedEvent;
+import com.talentcloud.job.recommendation.JobRecommendationIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CandidateSkillsEventConsumer {
+
+    private final JobRecommendationIndex recommendationIndex;
+
+    @KafkaListener(
+            topics = "${kafka.topics.candidate-skills}",
+            containerFactory = "candidateSkillsChangedKafkaListenerContainerFactory"
+    )
+    public void handleCandidateSkillsChanged(CandidateSkillsChangedEvent event) {
+        log.debug("Candidate skills changed: {} -> {}", event.getUserId(), event.getSkills());
+        recommendationIndex.updateCandidate(event.getUserId(), event.getSkills());
+    }
+}
@@ -0,0 +1,25 @@
+package com.talentcloud.job.kafka;
+
+import com.talentcloud.job.events.ProfileStatusChangedEvent;
+import com.talentcloud.job.service.ProfileStatusCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProfileStatusEventConsumer {
+
+    private final ProfileStatusCache profileStatusCache;
+
+    @KafkaListener(
+            topics = {"${kafka.topics.candidate-profile-status}", "${kafka.topics.client-profile-status}"},
+            containerFactory = "profileStatusChangedKafkaListenerContainerFactory"
+    )
+    public void handleProfileStatusChanged(ProfileStatusChangedEvent event) {
+        log.debug("Profile status changed: {} {} -> {}", event.getUserType(), event.getUserId(), event.getProfileStatus());
+        profileStatusCache.update(event.getUserType(), event.getUserId(), event.getProfileStatus());
+    }
+}
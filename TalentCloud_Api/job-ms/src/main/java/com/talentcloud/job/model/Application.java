@@ -6,6 +6,8 @@ import lombok.*;
 
 import java.time.LocalDateTime;
 @Entity
+// One application per candidate and job offer, enforced by the unique index uk_applications_job_offer_candidate
+// rather than a prior lookup. It is created by db/schema/job-ms-indexes.sql, which removes older duplicates first
 @Table(name = "applications")
 @Data
 @NoArgsConstructor
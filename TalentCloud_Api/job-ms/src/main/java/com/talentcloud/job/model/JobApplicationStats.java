@@ -0,0 +1,36 @@
+package com.talentcloud.job.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Running application counts per job offer, kept in step with the applications table
+ * by ApplicationStatsService so the stats endpoint never has to scan applications.
+ */
+@Entity
+@Table(name = "job_application_stats", indexes = {
+        @Index(name = "idx_job_application_stats_client_id", columnList = "client_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobApplicationStats {
+
+    @Id
+    private Long jobOfferId;
+
+    private String clientId;
+
+    private long submitted;
+
+    private long underReview;
+
+    private long accepted;
+
+    private long refused;
+
+    private LocalDateTime updatedAt;
+}
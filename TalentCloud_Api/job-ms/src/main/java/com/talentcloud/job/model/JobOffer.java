@@ -11,7 +11,9 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "job_offers")
+@Table(name = "job_offers", indexes = {
+        @Index(name = "idx_job_offers_created_at_id", columnList = "created_at DESC, job_offer_id DESC")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,52 @@
+package com.talentcloud.job.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Kafka event written in the same transaction as the business change
+ * and published later by OutboxRelay.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_sent_at_id", columnList = "sent_at, id"),
+        @Index(name = "idx_outbox_events_message_key_id", columnList = "message_key, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String topic;
+
+    // Kafka record key, events sharing a key keep their relative order
+    private String messageKey;
+
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    private LocalDateTime createdAt;
+
+    // The relay leaves the row alone until then; used to hold events while they are being enriched
+    // and to back off after a failed attempt
+    private LocalDateTime availableAt;
+
+    private LocalDateTime sentAt;
+
+    private int attempts;
+
+    // Set once the relay gave up on the row; it is never retried after that
+    private LocalDateTime parkedAt;
+
+    @Column(length = 1000)
+    private String lastError;
+}
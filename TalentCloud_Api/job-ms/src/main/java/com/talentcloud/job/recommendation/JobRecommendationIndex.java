@@ -0,0 +1,391 @@
+package com.talentcloud.job.recommendation;
+
+import com.talentcloud.job.dto.JobOfferSummary;
+import com.talentcloud.job.dto.JobRecommendation;
+import com.talentcloud.job.model.JobOffer;
+import com.talentcloud.job.repository.JobOfferRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed top-K job recommendations per candidate.
+ * <p>
+ * Skills on both sides are encoded through {@link SkillVocabulary}, and each candidate keeps a
+ * bounded min-heap of its best matches. A new or changed job offer is only scored against the
+ * candidates sharing at least one of its skills, and a skills change only rescans the offers
+ * sharing one of the candidate's skills. Every change publishes an immutable, ranked copy of the
+ * heap, so reading a feed is a single map lookup.
+ * <p>
+ * Job offers are loaded on startup and kept current by JobOfferService; candidates are added by
+ * CandidateSkillsEventConsumer, or seeded from profile-ms on their first feed request.
+ */
+@Slf4j
+@Component
+public class JobRecommendationIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    // Worst recommendation first, which is the order the bounded heap evicts in
+    private static final Comparator<Scored> WORST_FIRST = Comparator
+            .comparingDouble(Scored::score)
+            .thenComparing(scored -> scored.job().summary().getCreatedAt(),
+                    Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(scored -> scored.job().summary().getJobOfferId());
+
+    private final JobOfferRepository jobOfferRepository;
+    private final SkillVocabulary vocabulary;
+    private final int topK;
+
+    // All fields below are guarded by lock
+    private final Object lock = new Object();
+    private final Map<Long, IndexedJob> jobs = new HashMap<>();
+    private final Map<Integer, Set<Long>> jobsBySkill = new HashMap<>();
+    private final Map<String, int[]> candidateSkills = new HashMap<>();
+    private final Map<Integer, Set<String>> candidatesBySkill = new HashMap<>();
+    private final Map<String, PriorityQueue<Scored>> heaps = new HashMap<>();
+    // Candidate skills no job offer has required yet, by normalized name
+    private final Map<String, Set<String>> unseenSkills = new HashMap<>();
+    private final Map<String, Set<String>> candidatesByUnseenSkill = new HashMap<>();
+    // Offers written while a rebuild scans the table, a null value for a removal; null when no rebuild runs
+    private Map<Long, IndexedJob> changedDuringRebuild;
+
+    // Ranked snapshots of the heaps, read without taking the lock
+    private final Map<String, List<JobRecommendation>> feeds = new ConcurrentHashMap<>();
+
+    public JobRecommendationIndex(JobOfferRepository jobOfferRepository, SkillVocabulary vocabulary,
+                                  @Value("${recommendations.top-k:50}") int topK) {
+        this.jobOfferRepository = jobOfferRepository;
+        this.vocabulary = vocabulary;
+        this.topK = topK;
+    }
+
+    private record IndexedJob(JobOfferSummary summary, int[] skills) {
+    }
+
+    private record Scored(IndexedJob job, int matched, double score) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (lock) {
+            changedDuringRebuild = new HashMap<>();
+        }
+        Map<Long, IndexedJob> loaded = new HashMap<>();
+
+        long lastId = 0;
+        List<JobOffer> page;
+        do {
+            page = jobOfferRepository.findPageAfter(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (JobOffer jobOffer : page) {
+                loaded.put(jobOffer.getJobOfferId(), analyze(jobOffer));
+                lastId = jobOffer.getJobOfferId();
+            }
+        } while (page.size() == REBUILD_BATCH_SIZE);
+
+        synchronized (lock) {
+            // A write committed after the scan passed its page is missing from the loaded offers
+            changedDuringRebuild.forEach((jobOfferId, job) -> {
+                if (job == null) {
+                    loaded.remove(jobOfferId);
+                } else {
+                    loaded.put(jobOfferId, job);
+                }
+            });
+            changedDuringRebuild = null;
+
+            jobs.clear();
+            jobsBySkill.clear();
+            for (IndexedJob job : loaded.values()) {
+                jobs.put(job.summary().getJobOfferId(), job);
+                link(jobsBySkill, job.skills(), job.summary().getJobOfferId());
+            }
+            resolveUnseen(new ArrayList<>(candidatesByUnseenSkill.keySet()));
+            // Candidates seen before the load finished were scored against a partial set
+            for (String candidateId : candidateSkills.keySet()) {
+                recompute(candidateId);
+            }
+        }
+        log.info("Job recommendation index loaded {} offers over {} skills in {} ms",
+                loaded.size(), vocabulary.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Score a new or changed job offer against the matching candidates once the current
+     * transaction commits.
+     */
+    public void indexAfterCommit(JobOffer jobOffer) {
+        IndexedJob job = analyze(jobOffer);
+        List<String> skillNames = new ArrayList<>(jobOffer.getRequiredSkills());
+        runAfterCommit(() -> putJob(job, skillNames));
+    }
+
+    public void removeAfterCommit(Long jobOfferId) {
+        runAfterCommit(() -> removeJob(jobOfferId));
+    }
+
+    /**
+     * Replace a candidate's skills and recompute its recommendations.
+     */
+    public void updateCandidate(String candidateId, Collection<String> skills) {
+        synchronized (lock) {
+            putCandidate(candidateId, skills);
+        }
+    }
+
+    /**
+     * Like {@link #updateCandidate}, but leaves an already known candidate alone, so a profile
+     * fetched on a cache miss never overwrites a newer skills event.
+     */
+    public void seedCandidate(String candidateId, Collection<String> skills) {
+        synchronized (lock) {
+            if (!candidateSkills.containsKey(candidateId)) {
+                putCandidate(candidateId, skills);
+            }
+        }
+    }
+
+    /**
+     * @return the ranked recommendations, or empty if the candidate is not known yet
+     */
+    public Optional<List<JobRecommendation>> recommendationsFor(String candidateId) {
+        return Optional.ofNullable(feeds.get(candidateId));
+    }
+
+    private void putJob(IndexedJob job, Collection<String> skillNames) {
+        Long jobOfferId = job.summary().getJobOfferId();
+        synchronized (lock) {
+            // Candidates waiting on a skill this offer brought into the vocabulary now share it
+            resolveUnseen(skillNames);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(jobOfferId, job);
+            }
+            IndexedJob previous = jobs.put(jobOfferId, job);
+            Set<String> affected = new HashSet<>();
+            if (previous != null) {
+                unlink(jobsBySkill, previous.skills(), jobOfferId);
+                collect(candidatesBySkill, previous.skills(), affected);
+            }
+            link(jobsBySkill, job.skills(), jobOfferId);
+            collect(candidatesBySkill, job.skills(), affected);
+
+            for (String candidateId : affected) {
+                PriorityQueue<Scored> heap = heaps.get(candidateId);
+                if (heap.removeIf(scored -> scored.job().summary().getJobOfferId().equals(jobOfferId))) {
+                    // The old score may have kept a better offer out of the heap
+                    recompute(candidateId);
+                } else if (offer(heap, candidateSkills.get(candidateId), job)) {
+                    publish(candidateId, heap);
+                }
+            }
+        }
+    }
+
+    private void removeJob(Long jobOfferId) {
+        synchronized (lock) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(jobOfferId, null);
+            }
+            IndexedJob previous = jobs.remove(jobOfferId);
+            if (previous == null) {
+                return;
+            }
+            unlink(jobsBySkill, previous.skills(), jobOfferId);
+            Set<String> affected = new HashSet<>();
+            collect(candidatesBySkill, previous.skills(), affected);
+            for (String candidateId : affected) {
+                if (heaps.get(candidateId).removeIf(scored -> scored.job().summary().getJobOfferId().equals(jobOfferId))) {
+                    // Refill the freed slot
+                    recompute(candidateId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Encoded under the lock, so a skill a job offer adds to the vocabulary meanwhile is either
+     * found here or resolved by the {@link #putJob} that follows.
+     */
+    private void putCandidate(String candidateId, Collection<String> skills) {
+        int[] encoded = vocabulary.encode(skills, false);
+        Set<String> unseen = new HashSet<>();
+        if (skills != null) {
+            for (String skill : skills) {
+                if (skill != null && !skill.isBlank() && vocabulary.find(skill) == null) {
+                    unseen.add(SkillVocabulary.normalize(skill));
+                }
+            }
+        }
+
+        int[] previous = candidateSkills.put(candidateId, encoded);
+        if (previous != null) {
+            unlink(candidatesBySkill, previous, candidateId);
+        }
+        link(candidatesBySkill, encoded, candidateId);
+
+        Set<String> previousUnseen = unseenSkills.remove(candidateId);
+        if (previousUnseen != null) {
+            for (String skill : previousUnseen) {
+                candidatesByUnseenSkill.computeIfPresent(skill, (name, ids) -> ids.remove(candidateId) && ids.isEmpty() ? null : ids);
+            }
+        }
+        if (!unseen.isEmpty()) {
+            unseenSkills.put(candidateId, unseen);
+            for (String skill : unseen) {
+                candidatesByUnseenSkill.computeIfAbsent(skill, name -> new HashSet<>()).add(candidateId);
+            }
+        }
+        recompute(candidateId);
+    }
+
+    /**
+     * Move the candidates waiting on any of the given skills over to its id, once it has one.
+     * Their heaps are left to the caller.
+     */
+    private void resolveUnseen(Collection<String> skills) {
+        if (candidatesByUnseenSkill.isEmpty() || skills == null) {
+            return;
+        }
+        for (String skill : skills) {
+            if (skill == null || skill.isBlank()) {
+                continue;
+            }
+            String name = SkillVocabulary.normalize(skill);
+            Integer id = vocabulary.find(name);
+            Set<String> waiting = id == null ? null : candidatesByUnseenSkill.remove(name);
+            if (waiting == null) {
+                continue;
+            }
+            for (String candidateId : waiting) {
+                Set<String> unseen = unseenSkills.get(candidateId);
+                unseen.remove(name);
+                if (unseen.isEmpty()) {
+                    unseenSkills.remove(candidateId);
+                }
+                int[] known = candidateSkills.get(candidateId);
+                int[] merged = Arrays.copyOf(known, known.length + 1);
+                merged[known.length] = id;
+                Arrays.sort(merged);
+                candidateSkills.put(candidateId, merged);
+                candidatesBySkill.computeIfAbsent(id, s -> new HashSet<>()).add(candidateId);
+            }
+        }
+    }
+
+    private void recompute(String candidateId) {
+        int[] skills = candidateSkills.get(candidateId);
+        Set<Long> candidateJobs = new HashSet<>();
+        collect(jobsBySkill, skills, candidateJobs);
+
+        PriorityQueue<Scored> heap = new PriorityQueue<>(topK + 1, WORST_FIRST);
+        for (Long jobOfferId : candidateJobs) {
+            offer(heap, skills, jobs.get(jobOfferId));
+        }
+        heaps.put(candidateId, heap);
+        publish(candidateId, heap);
+    }
+
+    /**
+     * @return whether the heap changed
+     */
+    private boolean offer(PriorityQueue<Scored> heap, int[] candidateSkills, IndexedJob job) {
+        int matched = overlap(candidateSkills, job.skills());
+        if (matched == 0) {
+            return false;
+        }
+        Scored scored = new Scored(job, matched, (double) matched / job.skills().length);
+        if (heap.size() < topK) {
+            heap.add(scored);
+            return true;
+        }
+        if (WORST_FIRST.compare(scored, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(scored);
+            return true;
+        }
+        return false;
+    }
+
+    private void publish(String candidateId, PriorityQueue<Scored> heap) {
+        List<Scored> ranked = new ArrayList<>(heap);
+        ranked.sort(WORST_FIRST.reversed());
+        List<JobRecommendation> feed = new ArrayList<>(ranked.size());
+        for (Scored scored : ranked) {
+            feed.add(new JobRecommendation(scored.job().summary(), scored.score(), scored.matched()));
+        }
+        feeds.put(candidateId, Collections.unmodifiableList(feed));
+    }
+
+    private IndexedJob analyze(JobOffer jobOffer) {
+        return new IndexedJob(JobOfferSummary.fromEntity(jobOffer), vocabulary.encode(jobOffer.getRequiredSkills()));
+    }
+
+    // Both arrays are sorted and distinct
+    private static int overlap(int[] left, int[] right) {
+        int matched = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                matched++;
+                i++;
+                j++;
+            }
+        }
+        return matched;
+    }
+
+    private static <T> void link(Map<Integer, Set<T>> postings, int[] skills, T id) {
+        for (int skill : skills) {
+            postings.computeIfAbsent(skill, s -> new HashSet<>()).add(id);
+        }
+    }
+
+    private static <T> void unlink(Map<Integer, Set<T>> postings, int[] skills, T id) {
+        for (int skill : skills) {
+            Set<T> ids = postings.get(skill);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(skill);
+                }
+            }
+        }
+    }
+
+    private static <T> void collect(Map<Integer, Set<T>> postings, int[] skills, Set<T> target) {
+        for (int skill : skills) {
+            Set<T> ids = postings.get(skill);
+            if (ids != null) {
+                target.addAll(ids);
+            }
+        }
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
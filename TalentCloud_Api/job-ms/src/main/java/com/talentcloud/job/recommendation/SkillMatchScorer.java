@@ -0,0 +1,46 @@
+package com.talentcloud.job.recommendation;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Scores candidate skills against a job offer's required skills using bitsets over
+ * {@link SkillVocabulary} ids, so one match costs a few AND and popcount instructions.
+ */
+@Component
+public class SkillMatchScorer {
+
+    private final SkillVocabulary vocabulary;
+
+    public SkillMatchScorer(SkillVocabulary vocabulary) {
+        this.vocabulary = vocabulary;
+    }
+
+    public long[] encodeRequired(Collection<String> requiredSkills) {
+        return vocabulary.bitset(requiredSkills, true);
+    }
+
+    /**
+     * Encode candidate skills after the required side: skills no job offer has required
+     * cannot match, so they are left out rather than added to the vocabulary.
+     */
+    public long[] encodeCandidate(Collection<String> candidateSkills) {
+        return vocabulary.bitset(candidateSkills, false);
+    }
+
+    /**
+     * @return the share of required skills the candidate has, 0 when nothing is required
+     */
+    public static double coverage(long[] candidate, long[] required) {
+        int requiredCount = 0;
+        int matched = 0;
+        for (int i = 0; i < required.length; i++) {
+            requiredCount += Long.bitCount(required[i]);
+            if (i < candidate.length) {
+                matched += Long.bitCount(required[i] & candidate[i]);
+            }
+        }
+        return requiredCount == 0 ? 0.0 : (double) matched / requiredCount;
+    }
+}
@@ -0,0 +1,96 @@
+package com.talentcloud.job.recommendation;
+
+import com.talentcloud.job.model.RequiredSkill;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dense integer ids for skill names, shared by job offers and candidates.
+ * Ids are handed out to the skills job offers require and never reused, so an encoded skill set
+ * stays valid for the lifetime of the process. Candidate skills are free-form and only looked up,
+ * otherwise every typo in a profile would take an id for good.
+ */
+@Component
+public class SkillVocabulary {
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    public SkillVocabulary() {
+        // Job offers mostly require the RequiredSkill values, keep them in the first bitset word
+        for (RequiredSkill skill : RequiredSkill.values()) {
+            idOf(skill.name());
+        }
+    }
+
+    public int idOf(String skill) {
+        return ids.computeIfAbsent(normalize(skill), name -> nextId.getAndIncrement());
+    }
+
+    /**
+     * @return the id of the skill, or null if no job offer has required it yet
+     */
+    public Integer find(String skill) {
+        return ids.get(normalize(skill));
+    }
+
+    /**
+     * Encode the skills of a job offer, giving unseen names a new id, see {@link #encode(Collection, boolean)}.
+     */
+    public int[] encode(Collection<String> skills) {
+        return encode(skills, true);
+    }
+
+    /**
+     * Encode skill names as a bitset over their ids, see {@link #encode(Collection, boolean)}.
+     */
+    public long[] bitset(Collection<String> skills, boolean assignMissing) {
+        int[] encoded = encode(skills, assignMissing);
+        if (encoded.length == 0) {
+            return new long[0];
+        }
+        long[] bits = new long[(encoded[encoded.length - 1] >>> 6) + 1];
+        for (int id : encoded) {
+            bits[id >>> 6] |= 1L << id;
+        }
+        return bits;
+    }
+
+    public int size() {
+        return nextId.get();
+    }
+
+    static String normalize(String skill) {
+        return skill.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Encode skill names as a sorted array of distinct ids. Blank names are skipped.
+     *
+     * @param assignMissing whether unseen names get a new id; when false they are skipped,
+     *                      which is enough for a side that can only match skills already seen
+     */
+    public int[] encode(Collection<String> skills, boolean assignMissing) {
+        if (skills == null || skills.isEmpty()) {
+            return new int[0];
+        }
+        int[] encoded = new int[skills.size()];
+        int count = 0;
+        for (String skill : skills) {
+            if (skill == null || skill.isBlank()) {
+                continue;
+            }
+            Integer id = assignMissing ? Integer.valueOf(idOf(skill)) : ids.get(normalize(skill));
+            if (id != null) {
+                encoded[count++] = id;
+            }
+        }
+        return Arrays.stream(encoded, 0, count).sorted().distinct().toArray();
+    }
+}
@@ -1,15 +1,69 @@
 package com.talentcloud.job.repository;
 
+import com.talentcloud.job.dto.ApplicationOwnership;
 import com.talentcloud.job.model.Application;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
     List<Application> findByJobOfferId(Long jobOfferId);
+    Page<Application> findByJobOfferId(Long jobOfferId, Pageable pageable);
+
+    // Server-side cursor for exports: must be consumed inside a transaction so the driver keeps the cursor open
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Application a WHERE a.jobOfferId = :jobOfferId ORDER BY a.id")
+    Stream<Application> streamByJobOfferId(@Param("jobOfferId") Long jobOfferId);
     List<Application> findByCandidateId(String candidateId);
-    boolean existsByJobOfferIdAndCandidateId(Long jobOfferId, String candidateId);
 
-}
\ No newline at end of file
+    // SELECT ... FOR UPDATE, so concurrent status changes of one application read its status one after the other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Application a WHERE a.id = :id")
+    Optional<Application> findByIdForUpdate(@Param("id") Long id);
+
+    // Returns the new id, or nothing when the candidate already applied (including a concurrent apply)
+    @Transactional
+    @Query(value = "INSERT INTO applications (job_offer_id, candidate_id, applied_at, status) " +
+            "VALUES (:jobOfferId, :candidateId, :appliedAt, :status) " +
+            "ON CONFLICT (job_offer_id, candidate_id) DO NOTHING " +
+            "RETURNING id",
+            nativeQuery = true)
+    Optional<Long> insertIfAbsent(@Param("jobOfferId") Long jobOfferId,
+                                  @Param("candidateId") String candidateId,
+                                  @Param("appliedAt") LocalDateTime appliedAt,
+                                  @Param("status") String status);
+
+    @Query("SELECT new com.talentcloud.job.dto.ApplicationOwnership(a.id, a.jobOfferId, a.candidateId, a.status, " +
+            "j.clientId, j.title) " +
+            "FROM Application a JOIN JobOffer j ON j.jobOfferId = a.jobOfferId WHERE a.id IN :ids")
+    List<ApplicationOwnership> findOwnershipByIdIn(@Param("ids") Collection<Long> ids);
+
+    // One statement for the whole batch; rows already in the target status are left alone.
+    // Returns [id, previous status] for each row that actually changed.
+    @Transactional
+    @Query(value = "UPDATE applications a SET status = :status " +
+            "FROM (SELECT id, status FROM applications WHERE id IN (:ids) AND status <> :status FOR UPDATE) previous " +
+            "WHERE a.id = previous.id " +
+            "RETURNING a.id, previous.status",
+            nativeQuery = true)
+    List<Object[]> updateStatusReturningPrevious(@Param("ids") Collection<Long> ids, @Param("status") String status);
+}
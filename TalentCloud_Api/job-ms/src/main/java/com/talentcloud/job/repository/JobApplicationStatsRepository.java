@@ -0,0 +1,54 @@
+package com.talentcloud.job.repository;
+
+import com.talentcloud.job.model.JobApplicationStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JobApplicationStatsRepository extends JpaRepository<JobApplicationStats, Long> {
+
+    List<JobApplicationStats> findByClientIdOrderByJobOfferIdDesc(String clientId);
+
+    // Upsert so the counters are adjusted in place under the row lock, never read-modify-written
+    @Modifying
+    @Query(value = "INSERT INTO job_application_stats " +
+            "(job_offer_id, client_id, submitted, under_review, accepted, refused, updated_at) " +
+            "VALUES (:jobOfferId, :clientId, :submitted, :underReview, :accepted, :refused, :now) " +
+            "ON CONFLICT (job_offer_id) DO UPDATE SET " +
+            "submitted = job_application_stats.submitted + EXCLUDED.submitted, " +
+            "under_review = job_application_stats.under_review + EXCLUDED.under_review, " +
+            "accepted = job_application_stats.accepted + EXCLUDED.accepted, " +
+            "refused = job_application_stats.refused + EXCLUDED.refused, " +
+            "updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    int addCounts(@Param("jobOfferId") Long jobOfferId,
+                  @Param("clientId") String clientId,
+                  @Param("submitted") long submitted,
+                  @Param("underReview") long underReview,
+                  @Param("accepted") long accepted,
+                  @Param("refused") long refused,
+                  @Param("now") LocalDateTime now);
+
+    // Seeds rows for job offers created before the stats table existed
+    @Modifying
+    @Query(value = "INSERT INTO job_application_stats " +
+            "(job_offer_id, client_id, submitted, under_review, accepted, refused, updated_at) " +
+            "SELECT j.job_offer_id, j.client_id, " +
+            "COUNT(a.id) FILTER (WHERE a.status = 'SUBMITTED'), " +
+            "COUNT(a.id) FILTER (WHERE a.status = 'UNDER_REVIEW'), " +
+            "COUNT(a.id) FILTER (WHERE a.status = 'ACCEPTED'), " +
+            "COUNT(a.id) FILTER (WHERE a.status = 'REFUSED'), " +
+            ":now " +
+            "FROM job_offers j LEFT JOIN applications a ON a.job_offer_id = j.job_offer_id " +
+            "WHERE NOT EXISTS (SELECT 1 FROM job_application_stats s WHERE s.job_offer_id = j.job_offer_id) " +
+            "GROUP BY j.job_offer_id, j.client_id " +
+            "ON CONFLICT (job_offer_id) DO NOTHING",
+            nativeQuery = true)
+    int insertMissing(@Param("now") LocalDateTime now);
+}
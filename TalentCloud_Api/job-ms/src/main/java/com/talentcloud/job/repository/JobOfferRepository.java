@@ -1,9 +1,15 @@
 package com.talentcloud.job.repository;
 
+import com.talentcloud.job.dto.JobOfferSummary;
 import com.talentcloud.job.model.JobOffer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -11,4 +17,50 @@ public interface JobOfferRepository extends JpaRepository<JobOffer, Long> {
 
     // Changed parameter type from Long to String
     List<JobOffer> findByClientId(String clientId);
-}
\ No newline at end of file
+
+    // Feed: newest first, keyset on (createdAt, jobOfferId) so deep pages cost the same as the first one
+    @Query("SELECT new com.talentcloud.job.dto.JobOfferSummary(j.jobOfferId, j.clientId, j.title, j.location, " +
+            "j.salaryRange, j.requiredExperience, j.requiredSkills, j.employmentType, j.createdAt) " +
+            "FROM JobOffer j ORDER BY j.createdAt DESC, j.jobOfferId DESC")
+    List<JobOfferSummary> findFeedFirstPage(Pageable pageable);
+
+    @Query("SELECT new com.talentcloud.job.dto.JobOfferSummary(j.jobOfferId, j.clientId, j.title, j.location, " +
+            "j.salaryRange, j.requiredExperience, j.requiredSkills, j.employmentType, j.createdAt) " +
+            "FROM JobOffer j " +
+            "WHERE j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.jobOfferId < :jobOfferId) " +
+            "ORDER BY j.createdAt DESC, j.jobOfferId DESC")
+    List<JobOfferSummary> findFeedPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                            @Param("jobOfferId") Long jobOfferId,
+                                            Pageable pageable);
+
+    // Full scans (index rebuilds): keyset on jobOfferId, so a row deleted mid-scan cannot shift another past a page
+    @Query("SELECT j FROM JobOffer j WHERE j.jobOfferId > :jobOfferId ORDER BY j.jobOfferId")
+    List<JobOffer> findPageAfter(@Param("jobOfferId") Long jobOfferId, Pageable pageable);
+
+    // Skill filters, served by the GIN index idx_job_offers_required_skills_path (see db/schema/job-ms-indexes.sql).
+    // Skills are passed as JSON arrays, e.g. ["JAVA","DOCKER"].
+    // "any" is written as @> ANY(...) rather than ?| because JDBC treats ? as a bind marker.
+    String REQUIRES_ANY_SKILL = "j.required_skills @> ANY(ARRAY(" +
+            "SELECT jsonb_build_array(s) FROM jsonb_array_elements_text(CAST(:anySkills AS jsonb)) s))";
+
+    @Query(value = "SELECT * FROM job_offers j WHERE j.required_skills @> CAST(:allSkills AS jsonb) " +
+            "ORDER BY j.created_at DESC, j.job_offer_id DESC",
+            countQuery = "SELECT COUNT(*) FROM job_offers j WHERE j.required_skills @> CAST(:allSkills AS jsonb)",
+            nativeQuery = true)
+    Page<JobOffer> findRequiringAllSkills(@Param("allSkills") String allSkills, Pageable pageable);
+
+    @Query(value = "SELECT * FROM job_offers j WHERE " + REQUIRES_ANY_SKILL +
+            " ORDER BY j.created_at DESC, j.job_offer_id DESC",
+            countQuery = "SELECT COUNT(*) FROM job_offers j WHERE " + REQUIRES_ANY_SKILL,
+            nativeQuery = true)
+    Page<JobOffer> findRequiringAnySkill(@Param("anySkills") String anySkills, Pageable pageable);
+
+    @Query(value = "SELECT * FROM job_offers j WHERE j.required_skills @> CAST(:allSkills AS jsonb) AND " +
+            REQUIRES_ANY_SKILL + " ORDER BY j.created_at DESC, j.job_offer_id DESC",
+            countQuery = "SELECT COUNT(*) FROM job_offers j WHERE j.required_skills @> CAST(:allSkills AS jsonb) AND " +
+                    REQUIRES_ANY_SKILL,
+            nativeQuery = true)
+    Page<JobOffer> findRequiringAllAndAnySkills(@Param("allSkills") String allSkills,
+                                                @Param("anySkills") String anySkills,
+                                                Pageable pageable);
+}
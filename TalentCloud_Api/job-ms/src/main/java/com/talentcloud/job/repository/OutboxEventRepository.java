@@ -0,0 +1,38 @@
+package com.talentcloud.job.repository;
+
+import com.talentcloud.job.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Transaction-scoped, so only one job-ms instance relays at a time and keys stay in order across instances
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:lockId)", nativeQuery = true)
+    boolean tryRelayLock(@Param("lockId") long lockId);
+
+    // A row is skipped while an earlier row with its key is unsent and not yet due (held or backing off);
+    // parked rows hold nothing back
+    @Query(value = "SELECT * FROM outbox_events o WHERE o.sent_at IS NULL AND o.parked_at IS NULL " +
+            "AND (o.available_at IS NULL OR o.available_at <= :now) " +
+            "AND NOT EXISTS (SELECT 1 FROM outbox_events e WHERE e.message_key = o.message_key " +
+            "AND e.id < o.id AND e.sent_at IS NULL AND e.parked_at IS NULL AND e.available_at > :now) " +
+            "ORDER BY o.id LIMIT :batchSize FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OutboxEvent> lockNextUnsentBatch(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+
+    // Conditional so a row the relay already published is never rewritten
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.payload = :payload, o.availableAt = :now WHERE o.id = :id AND o.sentAt IS NULL")
+    int release(@Param("id") Long id, @Param("payload") String payload, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent o WHERE o.sentAt < :cutoff")
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,348 @@
+package com.talentcloud.job.search;
+
+import com.talentcloud.job.dto.JobOfferSearchHit;
+import com.talentcloud.job.dto.JobOfferSearchResponse;
+import com.talentcloud.job.dto.JobOfferSummary;
+import com.talentcloud.job.model.EmploymentType;
+import com.talentcloud.job.model.JobOffer;
+import com.talentcloud.job.repository.JobOfferRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over job offers, ranked with BM25.
+ * Rebuilt from the database on startup and kept current by JobOfferService.
+ */
+@Slf4j
+@Component
+public class JobOfferSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Field boosts applied to term frequencies (BM25F-style)
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float SKILL_WEIGHT = 2.0f;
+    private static final float LOCATION_WEIGHT = 1.5f;
+    private static final float EMPLOYMENT_TYPE_WEIGHT = 1.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final JobOfferRepository jobOfferRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // All fields below are guarded by lock
+    private Map<Long, IndexedOffer> offers = new HashMap<>();
+    private Map<String, Map<Long, Float>> postings = new HashMap<>();
+    private double totalLength;
+    // Offers written while a rebuild scans the table, a null value for a removal; null when no rebuild runs
+    private Map<Long, IndexedOffer> changedDuringRebuild;
+
+    public JobOfferSearchIndex(JobOfferRepository jobOfferRepository) {
+        this.jobOfferRepository = jobOfferRepository;
+    }
+
+    private record IndexedOffer(JobOfferSummary summary,
+                                Map<String, Float> termFrequencies,
+                                float length,
+                                Set<String> skills) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Map<Long, IndexedOffer> freshOffers = new HashMap<>();
+        Map<String, Map<Long, Float>> freshPostings = new HashMap<>();
+        double freshLength = 0;
+
+        long lastId = 0;
+        List<JobOffer> page;
+        do {
+            page = jobOfferRepository.findPageAfter(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (JobOffer jobOffer : page) {
+                IndexedOffer indexed = analyze(jobOffer);
+                freshOffers.put(jobOffer.getJobOfferId(), indexed);
+                addPostings(freshPostings, jobOffer.getJobOfferId(), indexed);
+                freshLength += indexed.length();
+                lastId = jobOffer.getJobOfferId();
+            }
+        } while (page.size() == REBUILD_BATCH_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            offers = freshOffers;
+            postings = freshPostings;
+            totalLength = freshLength;
+            // A write committed after the scan passed its page is missing from the fresh maps
+            changedDuringRebuild.forEach((jobOfferId, indexed) -> {
+                removeUnlocked(jobOfferId);
+                if (indexed != null) {
+                    putUnlocked(jobOfferId, indexed);
+                }
+            });
+            changedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Job offer search index rebuilt with {} offers and {} terms in {} ms",
+                freshOffers.size(), freshPostings.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Index (or re-index) a job offer once the current transaction commits,
+     * so a rolled back write never becomes searchable.
+     */
+    public void indexAfterCommit(JobOffer jobOffer) {
+        IndexedOffer indexed = analyze(jobOffer);
+        Long jobOfferId = jobOffer.getJobOfferId();
+        runAfterCommit(() -> put(jobOfferId, indexed));
+    }
+
+    public void removeAfterCommit(Long jobOfferId) {
+        runAfterCommit(() -> remove(jobOfferId));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return offers.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public JobOfferSearchResponse search(String text, String location, EmploymentType employmentType,
+                                         Set<String> skills, int offset, int limit) {
+        long start = System.nanoTime();
+        List<String> queryTerms = tokenize(text);
+        Set<String> requiredSkills = normalizeSkills(skills);
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = queryTerms.isEmpty() ? matchAll() : score(queryTerms);
+
+            List<JobOfferSearchHit> hits = new ArrayList<>();
+            Map<String, Long> employmentTypeFacet = new TreeMap<>();
+            Map<String, Long> locationFacet = new TreeMap<>();
+            Map<String, Long> skillFacet = new TreeMap<>();
+
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                IndexedOffer offer = offers.get(entry.getKey());
+                if (offer == null || !matchesFilters(offer, location, employmentType, requiredSkills)) {
+                    continue;
+                }
+                hits.add(new JobOfferSearchHit(offer.summary(), entry.getValue()));
+
+                JobOfferSummary summary = offer.summary();
+                if (summary.getEmploymentType() != null) {
+                    employmentTypeFacet.merge(summary.getEmploymentType().name(), 1L, Long::sum);
+                }
+                if (summary.getLocation() != null) {
+                    locationFacet.merge(summary.getLocation(), 1L, Long::sum);
+                }
+                if (summary.getRequiredSkills() != null) {
+                    for (String skill : summary.getRequiredSkills()) {
+                        skillFacet.merge(skill, 1L, Long::sum);
+                    }
+                }
+            }
+
+            hits.sort(Comparator.comparingDouble(JobOfferSearchHit::getScore).reversed()
+                    .thenComparing(hit -> hit.getJobOffer().getCreatedAt(),
+                            Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder())));
+
+            int from = Math.min(Math.max(offset, 0), hits.size());
+            int to = Math.min(from + Math.max(limit, 0), hits.size());
+
+            Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+            facets.put("employmentType", employmentTypeFacet);
+            facets.put("location", locationFacet);
+            facets.put("requiredSkills", skillFacet);
+
+            long tookMs = (System.nanoTime() - start) / 1_000_000;
+            return new JobOfferSearchResponse(hits.size(), new ArrayList<>(hits.subList(from, to)), facets, tookMs);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> matchAll() {
+        Map<Long, Double> scores = new HashMap<>(offers.size() * 2);
+        for (Long jobOfferId : offers.keySet()) {
+            scores.put(jobOfferId, 0.0);
+        }
+        return scores;
+    }
+
+    private Map<Long, Double> score(List<String> queryTerms) {
+        Map<Long, Double> scores = new HashMap<>();
+        int documentCount = offers.size();
+        if (documentCount == 0) {
+            return scores;
+        }
+        double averageLength = totalLength / documentCount;
+
+        for (String term : new LinkedHashSet<>(queryTerms)) {
+            Map<Long, Float> posting = postings.get(term);
+            if (posting == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+            for (Map.Entry<Long, Float> entry : posting.entrySet()) {
+                IndexedOffer offer = offers.get(entry.getKey());
+                double tf = entry.getValue();
+                double norm = K1 * (1 - B + B * offer.length() / averageLength);
+                scores.merge(entry.getKey(), idf * (tf * (K1 + 1)) / (tf + norm), Double::sum);
+            }
+        }
+        return scores;
+    }
+
+    private static boolean matchesFilters(IndexedOffer offer, String location, EmploymentType employmentType,
+                                          Set<String> requiredSkills) {
+        JobOfferSummary summary = offer.summary();
+        if (location != null && !location.isBlank()
+                && (summary.getLocation() == null || !summary.getLocation().equalsIgnoreCase(location.trim()))) {
+            return false;
+        }
+        if (employmentType != null && employmentType != summary.getEmploymentType()) {
+            return false;
+        }
+        return offer.skills().containsAll(requiredSkills);
+    }
+
+    private void put(Long jobOfferId, IndexedOffer indexed) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(jobOfferId);
+            putUnlocked(jobOfferId, indexed);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(jobOfferId, indexed);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long jobOfferId) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(jobOfferId);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(jobOfferId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putUnlocked(Long jobOfferId, IndexedOffer indexed) {
+        offers.put(jobOfferId, indexed);
+        addPostings(postings, jobOfferId, indexed);
+        totalLength += indexed.length();
+    }
+
+    private void removeUnlocked(Long jobOfferId) {
+        IndexedOffer previous = offers.remove(jobOfferId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.termFrequencies().keySet()) {
+            Map<Long, Float> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(jobOfferId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= previous.length();
+    }
+
+    private static void addPostings(Map<String, Map<Long, Float>> target, Long jobOfferId, IndexedOffer indexed) {
+        for (Map.Entry<String, Float> entry : indexed.termFrequencies().entrySet()) {
+            target.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(jobOfferId, entry.getValue());
+        }
+    }
+
+    private static IndexedOffer analyze(JobOffer jobOffer) {
+        Map<String, Float> frequencies = new HashMap<>();
+        float length = 0;
+        length += addField(frequencies, jobOffer.getTitle(), TITLE_WEIGHT);
+        length += addField(frequencies, jobOffer.getDescription(), DESCRIPTION_WEIGHT);
+        length += addField(frequencies, jobOffer.getLocation(), LOCATION_WEIGHT);
+        if (jobOffer.getEmploymentType() != null) {
+            length += addField(frequencies, jobOffer.getEmploymentType().name().replace('_', ' '), EMPLOYMENT_TYPE_WEIGHT);
+        }
+        Set<String> skills = jobOffer.getRequiredSkills() == null ? Set.of() : jobOffer.getRequiredSkills();
+        for (String skill : skills) {
+            length += addField(frequencies, skill, SKILL_WEIGHT);
+        }
+
+        return new IndexedOffer(JobOfferSummary.fromEntity(jobOffer), frequencies, length, normalizeSkills(skills));
+    }
+
+    private static float addField(Map<String, Float> frequencies, String value, float weight) {
+        List<String> tokens = tokenize(value);
+        for (String token : tokens) {
+            frequencies.merge(token, weight, Float::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        // Keep '+' and '#' so that C++ and C# stay searchable
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}+#]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static Set<String> normalizeSkills(Collection<String> skills) {
+        if (skills == null || skills.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> normalized = new HashSet<>();
+        for (String skill : skills) {
+            if (skill != null && !skill.isBlank()) {
+                normalized.add(skill.trim().toUpperCase(Locale.ROOT));
+            }
+        }
+        return normalized;
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package com.talentcloud.job.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.talentcloud.job.config.CandidateClient;
+import com.talentcloud.job.dto.ApplicantDto;
+import com.talentcloud.job.dto.ApplicationExportFormat;
+import com.talentcloud.job.dto.ApplicationOwnership;
 import com.talentcloud.job.dto.ApplicationResponse;
+import com.talentcloud.job.dto.BulkStatusUpdateResponse;
 import com.talentcloud.job.dto.CandidateResponse;
 import com.talentcloud.job.dto.CreateApplicationDto;
+import com.talentcloud.job.dto.JobApplicantsPage;
+import com.talentcloud.job.dto.SkillsResponse;
 import com.talentcloud.job.events.ApplicationStatusChangedEvent;
 import com.talentcloud.job.events.ApplicationSubmittedEvent;
+import com.talentcloud.job.exception.ApplicationAccessDeniedException;
 import com.talentcloud.job.exception.ApplicationAlreadyExistsException;
 import com.talentcloud.job.exception.ApplicationNotFoundException;
 import com.talentcloud.job.exception.ResourceNotFoundException;
@@ -13,91 +21,231 @@ import com.talentcloud.job.iservice.IServiceApplication;
 import com.talentcloud.job.model.Application;
 import com.talentcloud.job.model.JobOffer;
 import com.talentcloud.job.model.Status;
+import com.talentcloud.job.recommendation.SkillMatchScorer;
 import com.talentcloud.job.repository.ApplicationRepository;
 import com.talentcloud.job.repository.JobOfferRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 public class ApplicationService implements IServiceApplication {
 
+    private static final int DEFAULT_APPLICANTS_PAGE_SIZE = 20;
+    private static final int MAX_APPLICANTS_PAGE_SIZE = 100;
+    private static final int MAX_BULK_STATUS_UPDATE = 200;
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    // Largest batch profile-ms accepts on its bulk candidate lookup
+    private static final int CANDIDATE_LOOKUP_BATCH_SIZE = 200;
+
     private final ApplicationRepository applicationRepository;
     private final JobOfferRepository jobOfferRepository;
     private final NotificationService notificationService;
     private final CandidateClient candidateClient;
+    private final ExecutorService profileLookupExecutor;
+    private final ProfileStatusCache profileStatusCache;
+    private final ApplicationStatsService applicationStatsService;
+    private final ObjectMapper objectMapper;
+    private final SkillMatchScorer skillMatchScorer;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Shared budget for all profile-ms lookups made while applying
+    @Value("${profile-ms.lookup-deadline-ms:3000}")
+    private long lookupDeadlineMs;
 
     @Autowired
     public ApplicationService(
             ApplicationRepository applicationRepository,
             JobOfferRepository jobOfferRepository,
             NotificationService notificationService,
-            CandidateClient candidateClient) {
+            CandidateClient candidateClient,
+            @Qualifier("profileLookupExecutor") ExecutorService profileLookupExecutor,
+            ProfileStatusCache profileStatusCache,
+            ApplicationStatsService applicationStatsService,
+            ObjectMapper objectMapper,
+            SkillMatchScorer skillMatchScorer) {
         this.applicationRepository = applicationRepository;
         this.jobOfferRepository = jobOfferRepository;
         this.notificationService = notificationService;
         this.candidateClient = candidateClient;
+        this.profileLookupExecutor = profileLookupExecutor;
+        this.profileStatusCache = profileStatusCache;
+        this.applicationStatsService = applicationStatsService;
+        this.objectMapper = objectMapper;
+        this.skillMatchScorer = skillMatchScorer;
     }
 
     @Override
     @Transactional
     public ApplicationResponse createApplication(CreateApplicationDto dto, String userId) {
-        // Vérifier le profil du candidat via OpenFeign
-        String profileStatus = candidateClient.getCandidateProfileStatus(userId, "CANDIDATE");
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lookupDeadlineMs);
 
-        if (!"APPROVED".equalsIgnoreCase(profileStatus)) {
-            throw new IllegalStateException("Your profile is " + profileStatus + ". You must be APPROVED to apply for a job.");
-        }
+        // Vérifier le profil du candidat via OpenFeign, en parallèle avec les lookups d'enrichissement
+        String cachedStatus = profileStatusCache.cachedCandidateStatus(userId);
+        CompletableFuture<String> profileStatusLookup = cachedStatus != null
+                ? CompletableFuture.completedFuture(cachedStatus)
+                : lookupAsync(() -> profileStatusCache.getCandidateStatus(userId));
+        CompletableFuture<CandidateResponse> candidateLookup = lookupAsync(() -> getCandidateByUserId(userId));
 
         JobOffer jobOffer = jobOfferRepository.findById(dto.getJobOfferId())
                 .orElseThrow(() -> new ResourceNotFoundException("Job offer not found with id: " + dto.getJobOfferId()));
 
-        if (applicationRepository.existsByJobOfferIdAndCandidateId(dto.getJobOfferId(), userId)) {
-            throw new ApplicationAlreadyExistsException("You have already applied for this job");
+        CompletableFuture<String> clientEmailLookup = lookupAsync(() ->
+                candidateClient.getClientEmailByUserId(jobOffer.getClientId(), "CLIENT").get("email"));
+
+        String profileStatus = await(profileStatusLookup, deadline);
+        if (!"APPROVED".equalsIgnoreCase(profileStatus)) {
+            throw new IllegalStateException("Your profile is " + profileStatus + ". You must be APPROVED to apply for a job.");
         }
 
-        Application application = Application.builder()
+        LocalDateTime appliedAt = LocalDateTime.now();
+        Long applicationId = applicationRepository.insertIfAbsent(dto.getJobOfferId(), userId, appliedAt,
+                        Status.SUBMITTED.name())
+                .orElseThrow(() -> new ApplicationAlreadyExistsException("You have already applied for this job"));
+
+        Application saved = Application.builder()
+                .id(applicationId)
                 .jobOfferId(dto.getJobOfferId())
                 .candidateId(userId)
                 .status(Status.SUBMITTED)
-                .appliedAt(LocalDateTime.now())
+                .appliedAt(appliedAt)
                 .build();
+        applicationStatsService.recordSubmitted(jobOffer.getJobOfferId(), jobOffer.getClientId());
 
-        Application saved = applicationRepository.save(application);
+        // Queue the event with what we know locally; candidate and client details are filled in after the commit
+        ApplicationSubmittedEvent event = ApplicationSubmittedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .timestamp(LocalDateTime.now())
+                .eventType("APPLICATION_SUBMITTED")
+                .applicationId(saved.getId())
+                .jobOfferId(saved.getJobOfferId())
+                .candidateId(saved.getCandidateId())
+                .clientId(jobOffer.getClientId())
+                .jobTitle(jobOffer.getTitle())
+                .build();
+        Long outboxEventId = notificationService.deferApplicationSubmittedEvent(event, Duration.ofMillis(lookupDeadlineMs));
 
-        try {
-            CandidateResponse candidate = getCandidateByUserId(userId);
-            Map<String, String> response = candidateClient.getClientEmailByUserId(jobOffer.getClientId(), "CLIENT");
-            String clientEmail = response.getOrDefault("email", "client@email.com");
+        enrichAfterCommit(outboxEventId, event, candidateLookup, clientEmailLookup, deadline);
 
-            ApplicationSubmittedEvent event = ApplicationSubmittedEvent.builder()
-                    .eventId(UUID.randomUUID().toString())
-                    .timestamp(LocalDateTime.now())
-                    .eventType("APPLICATION_SUBMITTED")
-                    .applicationId(saved.getId())
-                    .jobOfferId(saved.getJobOfferId())
-                    .candidateId(saved.getCandidateId())
-                    .candidateName(candidate.getFirstName() + " " + candidate.getLastName())
-                    .candidateEmail(candidate.getEmail())
-                    .clientId(jobOffer.getClientId())
-                    .clientEmail(clientEmail)
-                    .jobTitle(jobOffer.getTitle())
-                    .build();
+        return mapToApplicationResponse(saved);
+    }
 
-            notificationService.sendApplicationSubmittedEvent(event);
-        } catch (Exception e) {
-            log.error("Failed to send application submitted event, but application was saved successfully", e);
+    private void enrichAfterCommit(Long outboxEventId, ApplicationSubmittedEvent event,
+                                   CompletableFuture<CandidateResponse> candidateLookup,
+                                   CompletableFuture<String> clientEmailLookup,
+                                   long deadline) {
+        Runnable enrich = () -> CompletableFuture.allOf(candidateLookup, clientEmailLookup)
+                .orTimeout(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)
+                .whenCompleteAsync((ignored, ex) -> {
+                    try {
+                        CandidateResponse candidate = resultOrNull(candidateLookup);
+                        if (candidate != null) {
+                            event.setCandidateName(candidate.getFirstName() + " " + candidate.getLastName());
+                            event.setCandidateEmail(candidate.getEmail());
+                        }
+                        event.setClientEmail(resultOrNull(clientEmailLookup));
+                        notificationService.releaseDeferredEvent(outboxEventId, event);
+                    } catch (Exception e) {
+                        log.error("Failed to enrich application submitted event {}, it will be published as queued",
+                                outboxEventId, e);
+                    }
+                }, profileLookupExecutor);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enrich.run();
+                }
+            });
+        } else {
+            enrich.run();
         }
+    }
 
-        return mapToApplicationResponse(saved);
+    /**
+     * Run a blocking profile-ms lookup on a virtual thread, carrying over the current
+     * request attributes so FeignConfig can still forward the Authorization header.
+     */
+    private <T> CompletableFuture<T> lookupAsync(Supplier<T> lookup) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return CompletableFuture.supplyAsync(() -> {
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                return lookup.get();
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        }, profileLookupExecutor);
+    }
+
+    private static <T> T await(CompletableFuture<T> lookup, long deadline) {
+        try {
+            return lookup.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            lookup.cancel(true);
+            throw new CompletionException("Timed out waiting for profile-ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    private static <T> T resultOrNull(CompletableFuture<T> lookup) {
+        try {
+            return lookup.getNow(null);
+        } catch (CancellationException | CompletionException e) {
+            return null;
+        }
     }
 
 
@@ -119,6 +267,145 @@ public class ApplicationService implements IServiceApplication {
                 .stream().map(this::mapToApplicationResponse).collect(Collectors.toList());
     }
 
+    // Not transactional on purpose: no connection is held while profile-ms is queried
+    @Override
+    public List<ApplicationResponse> getApplicationsByJobIdRankedByMatch(Long jobOfferId) {
+        JobOffer jobOffer = jobOfferRepository.findById(jobOfferId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job offer not found with id: " + jobOfferId));
+        List<Application> applications = applicationRepository.findByJobOfferId(jobOfferId);
+
+        long[] required = skillMatchScorer.encodeRequired(jobOffer.getRequiredSkills());
+        Map<String, long[]> candidateSkills = lookupCandidateSkills(applications);
+
+        List<ApplicationResponse> ranked = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+            ApplicationResponse response = mapToApplicationResponse(application);
+            long[] skills = candidateSkills.get(application.getCandidateId());
+            // A candidate without a profile anymore simply ranks last
+            response.setMatchScore(skills == null ? 0.0 : SkillMatchScorer.coverage(skills, required));
+            ranked.add(response);
+        }
+        // Best match first, earlier applications first among equal matches
+        ranked.sort(Comparator.comparing(ApplicationResponse::getMatchScore).reversed()
+                .thenComparing(ApplicationResponse::getAppliedAt, Comparator.nullsLast(Comparator.naturalOrder())));
+        return ranked;
+    }
+
+    /**
+     * Fetch the skills of every applicant with concurrent bulk lookups, one per batch.
+     */
+    private Map<String, long[]> lookupCandidateSkills(List<Application> applications) {
+        List<String> candidateIds = applications.stream()
+                .map(Application::getCandidateId)
+                .distinct()
+                .collect(Collectors.toList());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lookupDeadlineMs);
+
+        List<CompletableFuture<List<CandidateResponse>>> lookups = new ArrayList<>();
+        for (int from = 0; from < candidateIds.size(); from += CANDIDATE_LOOKUP_BATCH_SIZE) {
+            List<String> batch = candidateIds.subList(from, Math.min(from + CANDIDATE_LOOKUP_BATCH_SIZE, candidateIds.size()));
+            lookups.add(lookupAsync(() -> candidateClient.getCandidatesByUserIds("Candidate", batch)));
+        }
+
+        Map<String, long[]> skillsByCandidate = new HashMap<>(candidateIds.size() * 2);
+        for (CompletableFuture<List<CandidateResponse>> lookup : lookups) {
+            for (CandidateResponse candidate : await(lookup, deadline)) {
+                List<String> skills = new ArrayList<>();
+                if (candidate.getSkills() != null) {
+                    for (SkillsResponse entry : candidate.getSkills()) {
+                        addAll(skills, entry.getProgrammingLanguages());
+                        addAll(skills, entry.getTechnicalSkills());
+                        addAll(skills, entry.getToolsAndTechnologies());
+                    }
+                }
+                skillsByCandidate.put(candidate.getUserId(), skillMatchScorer.encodeCandidate(skills));
+            }
+        }
+        return skillsByCandidate;
+    }
+
+    private static void addAll(List<String> target, Set<String> values) {
+        if (values != null) {
+            target.addAll(values);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public JobApplicantsPage getApplicantsForJob(Long jobOfferId, int page, int size) {
+        int pageSize = size <= 0 ? DEFAULT_APPLICANTS_PAGE_SIZE : Math.min(size, MAX_APPLICANTS_PAGE_SIZE);
+        Page<Application> applications = applicationRepository.findByJobOfferId(jobOfferId,
+                PageRequest.of(Math.max(page, 0), pageSize,
+                        Sort.by(Sort.Direction.DESC, "appliedAt").and(Sort.by(Sort.Direction.DESC, "id"))));
+
+        Map<String, CandidateResponse> candidatesByUserId = new HashMap<>();
+        if (applications.hasContent()) {
+            Set<String> candidateIds = applications.getContent().stream()
+                    .map(Application::getCandidateId)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            for (CandidateResponse candidate : candidateClient.getCandidatesByUserIds("Candidate", candidateIds)) {
+                candidatesByUserId.put(candidate.getUserId(), candidate);
+            }
+        }
+
+        List<ApplicantDto> applicants = applications.getContent().stream()
+                .map(application -> new ApplicantDto(
+                        mapToApplicationResponse(application),
+                        candidatesByUserId.get(application.getCandidateId())))
+                .collect(Collectors.toList());
+
+        return new JobApplicantsPage(null, applicants, applications.getNumber(), applications.getSize(),
+                applications.getTotalElements(), applications.getTotalPages(), applications.hasNext());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportApplicationsByJobId(Long jobOfferId, ApplicationExportFormat format, OutputStream out)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+        if (format == ApplicationExportFormat.CSV) {
+            writer.write("id,jobOfferId,candidateId,status,appliedAt\n");
+        }
+
+        long rows = 0;
+        try (Stream<Application> applications = applicationRepository.streamByJobOfferId(jobOfferId)) {
+            Iterator<Application> iterator = applications.iterator();
+            while (iterator.hasNext()) {
+                Application application = iterator.next();
+                ApplicationResponse response = mapToApplicationResponse(application);
+                if (format == ApplicationExportFormat.CSV) {
+                    writer.write(toCsvRow(response));
+                } else {
+                    writer.write(objectMapper.writeValueAsString(response));
+                }
+                writer.write('\n');
+                // Keep the persistence context from growing with the export
+                entityManager.detach(application);
+                rows++;
+            }
+        }
+        writer.flush();
+        log.info("Exported {} applications for job offer {} as {}", rows, jobOfferId, format);
+    }
+
+    private static String toCsvRow(ApplicationResponse response) {
+        return response.getId() + "," +
+                response.getJobOfferId() + "," +
+                csvField(response.getCandidateId()) + "," +
+                csvField(response.getStatus()) + "," +
+                (response.getAppliedAt() == null ? "" : response.getAppliedAt().toString());
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ApplicationResponse> getApplicationsByCandidate(String candidateId) {
@@ -129,15 +416,18 @@ public class ApplicationService implements IServiceApplication {
     @Override
     @Transactional
     public ApplicationResponse updateApplicationStatus(Long applicationId, Status status) {
-        Application application = applicationRepository.findById(applicationId)
+        // Locked until commit, also against the bulk update, so the stats see each transition exactly once
+        Application application = applicationRepository.findByIdForUpdate(applicationId)
                 .orElseThrow(() -> new ApplicationNotFoundException("Application not found with id: " + applicationId));
 
-        String oldStatus = application.getStatus().toString();
+        Status previousStatus = application.getStatus();
+        String oldStatus = previousStatus.toString();
         application.setStatus(status);
         Application updated = applicationRepository.save(application);
 
         JobOffer jobOffer = jobOfferRepository.findById(application.getJobOfferId())
                 .orElseThrow(() -> new ResourceNotFoundException("Job offer not found"));
+        applicationStatsService.recordTransition(jobOffer.getJobOfferId(), jobOffer.getClientId(), previousStatus, status);
 
         try {
             // Get candidate details using the new UUID-based method
@@ -170,6 +460,91 @@ public class ApplicationService implements IServiceApplication {
         return mapToApplicationResponse(updated);
     }
 
+    @Override
+    @Transactional
+    public BulkStatusUpdateResponse updateApplicationStatuses(List<Long> applicationIds, Status status,
+                                                              String ownerClientId) {
+        if (status == null) {
+            throw new IllegalArgumentException("A target status is required");
+        }
+        if (applicationIds == null || applicationIds.isEmpty() || applicationIds.size() > MAX_BULK_STATUS_UPDATE) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_BULK_STATUS_UPDATE + " application ids are required");
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lookupDeadlineMs);
+
+        // Ownership and event details for the whole batch in one query
+        Set<Long> requestedIds = new LinkedHashSet<>(applicationIds);
+        Map<Long, ApplicationOwnership> applications = new LinkedHashMap<>();
+        for (ApplicationOwnership row : applicationRepository.findOwnershipByIdIn(requestedIds)) {
+            if (ownerClientId != null && !ownerClientId.equals(row.getClientId())) {
+                throw new ApplicationAccessDeniedException(
+                        "Application " + row.getApplicationId() + " does not belong to one of your job offers");
+            }
+            applications.put(row.getApplicationId(), row);
+        }
+
+        // Fetch the candidates while the update runs; a failed lookup only leaves the emails out of the events
+        Set<String> candidateIds = applications.values().stream()
+                .filter(row -> row.getStatus() != status)
+                .map(ApplicationOwnership::getCandidateId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        CompletableFuture<List<CandidateResponse>> candidateLookup = candidateIds.isEmpty()
+                ? CompletableFuture.completedFuture(List.of())
+                : lookupAsync(() -> candidateClient.getCandidatesByUserIds("Candidate", candidateIds));
+
+        Map<Long, String> previousStatuses = new LinkedHashMap<>();
+        if (!applications.isEmpty()) {
+            for (Object[] row : applicationRepository.updateStatusReturningPrevious(applications.keySet(), status.name())) {
+                previousStatuses.put(((Number) row[0]).longValue(), (String) row[1]);
+            }
+        }
+
+        Map<String, String> candidateEmails = new HashMap<>();
+        if (!previousStatuses.isEmpty()) {
+            try {
+                for (CandidateResponse candidate : await(candidateLookup, deadline)) {
+                    candidateEmails.put(candidate.getUserId(), candidate.getEmail());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not fetch candidates for {} status changed events, publishing them without emails",
+                        previousStatuses.size(), e);
+            }
+        }
+
+        List<ApplicationStatsService.Transition> transitions = new ArrayList<>(previousStatuses.size());
+        List<ApplicationStatusChangedEvent> events = new ArrayList<>(previousStatuses.size());
+        for (Map.Entry<Long, String> entry : previousStatuses.entrySet()) {
+            ApplicationOwnership application = applications.get(entry.getKey());
+            transitions.add(new ApplicationStatsService.Transition(application.getJobOfferId(),
+                    application.getClientId(), Status.valueOf(entry.getValue()), status));
+            events.add(ApplicationStatusChangedEvent.builder()
+                    .eventId(UUID.randomUUID().toString())
+                    .timestamp(LocalDateTime.now())
+                    .eventType("APPLICATION_STATUS_CHANGED")
+                    .applicationId(application.getApplicationId())
+                    .jobOfferId(application.getJobOfferId())
+                    .candidateId(application.getCandidateId())
+                    .candidateEmail(candidateEmails.get(application.getCandidateId()))
+                    .clientId(application.getClientId())
+                    .clientName("Client Name")
+                    .jobTitle(application.getJobTitle())
+                    .oldStatus(entry.getValue())
+                    .newStatus(status.toString())
+                    .build());
+        }
+        applicationStatsService.recordTransitions(transitions);
+        notificationService.sendApplicationStatusChangedEvents(events);
+
+        List<Long> unchanged = applications.keySet().stream()
+                .filter(id -> !previousStatuses.containsKey(id))
+                .collect(Collectors.toList());
+        List<Long> notFound = requestedIds.stream()
+                .filter(id -> !applications.containsKey(id))
+                .collect(Collectors.toList());
+        return new BulkStatusUpdateResponse(status.toString(), new ArrayList<>(previousStatuses.keySet()),
+                unchanged, notFound);
+    }
+
     /**
      * Get candidate details by userId (UUID from auth token)
      * This method replaces the old hardcoded mapping approach
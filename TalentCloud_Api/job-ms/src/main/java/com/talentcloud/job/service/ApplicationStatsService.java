@@ -0,0 +1,133 @@
+package com.talentcloud.job.service;
+
+import com.talentcloud.job.dto.ClientApplicationStatsResponse;
+import com.talentcloud.job.dto.JobApplicationStatsResponse;
+import com.talentcloud.job.model.JobApplicationStats;
+import com.talentcloud.job.model.Status;
+import com.talentcloud.job.repository.JobApplicationStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains the per-job application counters. Every method joins the caller's transaction,
+ * so a counter only moves if the application change it describes commits.
+ */
+@Slf4j
+@Service
+public class ApplicationStatsService {
+
+    private final JobApplicationStatsRepository statsRepository;
+
+    public ApplicationStatsService(JobApplicationStatsRepository statsRepository) {
+        this.statsRepository = statsRepository;
+    }
+
+    /**
+     * A status change of a single application, from null for a new one.
+     */
+    public record Transition(Long jobOfferId, String clientId, Status from, Status to) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void insertMissingStats() {
+        int inserted = statsRepository.insertMissing(LocalDateTime.now());
+        if (inserted > 0) {
+            log.info("Seeded application stats for {} job offers", inserted);
+        }
+    }
+
+    @Transactional
+    public void initialize(Long jobOfferId, String clientId) {
+        statsRepository.addCounts(jobOfferId, clientId, 0, 0, 0, 0, LocalDateTime.now());
+    }
+
+    @Transactional
+    public void recordSubmitted(Long jobOfferId, String clientId) {
+        recordTransitions(List.of(new Transition(jobOfferId, clientId, null, Status.SUBMITTED)));
+    }
+
+    @Transactional
+    public void recordTransition(Long jobOfferId, String clientId, Status from, Status to) {
+        recordTransitions(List.of(new Transition(jobOfferId, clientId, from, to)));
+    }
+
+    /**
+     * Apply a batch of transitions with one upsert per job offer.
+     */
+    @Transactional
+    public void recordTransitions(List<Transition> transitions) {
+        Map<Long, long[]> deltas = new LinkedHashMap<>();
+        Map<Long, String> clientIds = new HashMap<>();
+        for (Transition transition : transitions) {
+            if (transition.from() == transition.to()) {
+                continue;
+            }
+            long[] delta = deltas.computeIfAbsent(transition.jobOfferId(), id -> new long[Status.values().length]);
+            clientIds.put(transition.jobOfferId(), transition.clientId());
+            if (transition.from() != null) {
+                delta[transition.from().ordinal()]--;
+            }
+            delta[transition.to().ordinal()]++;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<Long, long[]> entry : deltas.entrySet()) {
+            long[] delta = entry.getValue();
+            statsRepository.addCounts(entry.getKey(), clientIds.get(entry.getKey()),
+                    delta[Status.SUBMITTED.ordinal()],
+                    delta[Status.UNDER_REVIEW.ordinal()],
+                    delta[Status.ACCEPTED.ordinal()],
+                    delta[Status.REFUSED.ordinal()],
+                    now);
+        }
+    }
+
+    @Transactional
+    public void remove(Long jobOfferId) {
+        statsRepository.deleteById(jobOfferId);
+    }
+
+    @Transactional(readOnly = true)
+    public ClientApplicationStatsResponse getClientStats(String clientId) {
+        List<JobApplicationStatsResponse> jobs = new ArrayList<>();
+        Map<String, Long> totals = emptyCounts();
+        long total = 0;
+
+        for (JobApplicationStats stats : statsRepository.findByClientIdOrderByJobOfferIdDesc(clientId)) {
+            Map<String, Long> byStatus = new LinkedHashMap<>();
+            byStatus.put(Status.SUBMITTED.name(), stats.getSubmitted());
+            byStatus.put(Status.UNDER_REVIEW.name(), stats.getUnderReview());
+            byStatus.put(Status.ACCEPTED.name(), stats.getAccepted());
+            byStatus.put(Status.REFUSED.name(), stats.getRefused());
+
+            long jobTotal = 0;
+            for (Map.Entry<String, Long> entry : byStatus.entrySet()) {
+                totals.merge(entry.getKey(), entry.getValue(), Long::sum);
+                jobTotal += entry.getValue();
+            }
+            total += jobTotal;
+            jobs.add(new JobApplicationStatsResponse(stats.getJobOfferId(), jobTotal, byStatus));
+        }
+
+        return new ClientApplicationStatsResponse(clientId, total, totals, jobs);
+    }
+
+    private static Map<String, Long> emptyCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Status status : Status.values()) {
+            counts.put(status.name(), 0L);
+        }
+        return counts;
+    }
+}
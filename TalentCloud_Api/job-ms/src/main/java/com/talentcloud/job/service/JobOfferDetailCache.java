@@ -0,0 +1,103 @@
+package com.talentcloud.job.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.talentcloud.job.dto.JobOfferDetail;
+import com.talentcloud.job.model.JobOffer;
+import com.talentcloud.job.repository.JobOfferRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Read-through cache for job offer detail, keyed by id.
+ * Local writes evict after commit; the TTL bounds how long other instances can serve an outdated offer.
+ */
+@Service
+public class JobOfferDetailCache {
+
+    private final JobOfferRepository jobOfferRepository;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, JobOfferDetail> details;
+
+    public JobOfferDetailCache(JobOfferRepository jobOfferRepository,
+                               ObjectMapper objectMapper,
+                               @Value("${job-offer-cache.maximum-size:10000}") long maximumSize,
+                               @Value("${job-offer-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.jobOfferRepository = jobOfferRepository;
+        this.objectMapper = objectMapper;
+        this.details = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public Optional<JobOfferDetail> get(Long jobOfferId) {
+        // Misses are not cached, so an offer is visible as soon as it is created
+        return Optional.ofNullable(details.get(jobOfferId,
+                id -> jobOfferRepository.findById(id).map(this::toDetail).orElse(null)));
+    }
+
+    /**
+     * A copy of the cached offer, read back from its body. It is not attached to any persistence
+     * context, so callers may modify it without affecting the cache or the database.
+     */
+    public Optional<JobOffer> getJobOffer(Long jobOfferId) {
+        return get(jobOfferId).map(detail -> toJobOffer(jobOfferId, detail));
+    }
+
+    /**
+     * Evict once the current transaction commits. Evicting earlier would let a concurrent
+     * reader load and cache the pre-commit row again.
+     */
+    public void evictAfterCommit(Long jobOfferId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    details.invalidate(jobOfferId);
+                }
+            });
+        } else {
+            details.invalidate(jobOfferId);
+        }
+    }
+
+    // Only the serialized form is kept; the entity may belong to the caller's persistence context
+    private JobOfferDetail toDetail(JobOffer jobOffer) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(jobOffer);
+            return new JobOfferDetail(body, etag(jobOffer.getJobOfferId(), body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize job offer " + jobOffer.getJobOfferId(), e);
+        }
+    }
+
+    private JobOffer toJobOffer(Long jobOfferId, JobOfferDetail detail) {
+        try {
+            return objectMapper.readValue(detail.getBody(), JobOffer.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read cached job offer " + jobOfferId, e);
+        }
+    }
+
+    // The body digest is the version stamp: it changes exactly when the served representation does
+    private static String etag(Long jobOfferId, byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + jobOfferId + "-" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
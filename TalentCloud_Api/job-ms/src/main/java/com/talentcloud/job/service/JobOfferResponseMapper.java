@@ -0,0 +1,29 @@
+package com.talentcloud.job.service;
+
+import com.talentcloud.job.dto.JobOfferResponse;
+import com.talentcloud.job.model.JobOffer;
+
+/**
+ * JobOffer to JobOfferResponse mapping, free of service dependencies.
+ */
+public final class JobOfferResponseMapper {
+
+    private JobOfferResponseMapper() {
+    }
+
+    public static JobOfferResponse toResponse(JobOffer jobOffer) {
+        JobOfferResponse response = new JobOfferResponse();
+        response.setJobOfferId(jobOffer.getJobOfferId());
+        response.setClientId(jobOffer.getClientId());
+        response.setTitle(jobOffer.getTitle());
+        response.setDescription(jobOffer.getDescription());
+        response.setLocation(jobOffer.getLocation());
+        response.setSalaryRange(jobOffer.getSalaryRange());
+        response.setRequiredExperience(jobOffer.getRequiredExperience());
+        response.setRequiredSkills(jobOffer.getRequiredSkills());
+        response.setEmploymentType(jobOffer.getEmploymentType().toString());
+        response.setCreatedAt(jobOffer.getCreatedAt());
+
+        return response;
+    }
+}
@@ -5,40 +5,69 @@ import com.talentcloud.job.dto.*;
 import com.talentcloud.job.events.JobOfferCreatedEvent;
 import com.talentcloud.job.exception.JobOfferNotFoundException;
 import com.talentcloud.job.iservice.IServiceJobOffer;
+import com.talentcloud.job.model.EmploymentType;
 import com.talentcloud.job.model.JobOffer;
+import com.talentcloud.job.model.RequiredSkill;
+import com.talentcloud.job.recommendation.JobRecommendationIndex;
 import com.talentcloud.job.repository.JobOfferRepository;
+import com.talentcloud.job.search.JobOfferSearchIndex;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class JobOfferService implements IServiceJobOffer {
 
+    private static final int DEFAULT_FEED_LIMIT = 20;
+    private static final int MAX_FEED_LIMIT = 100;
+
     private final JobOfferRepository jobOfferRepository;
     private final NotificationService notificationService;
     private final CandidateClient candidateClient;
+    private final JobOfferSearchIndex searchIndex;
+    private final ProfileStatusCache profileStatusCache;
+    private final ApplicationStatsService applicationStatsService;
+    private final JobOfferDetailCache jobOfferDetailCache;
+    private final JobRecommendationIndex recommendationIndex;
 
 
     @Autowired
-    public JobOfferService(JobOfferRepository jobOfferRepository, NotificationService notificationService, CandidateClient candidateClient) {
+    public JobOfferService(JobOfferRepository jobOfferRepository, NotificationService notificationService,
+                           CandidateClient candidateClient, JobOfferSearchIndex searchIndex,
+                           ProfileStatusCache profileStatusCache, ApplicationStatsService applicationStatsService,
+                           JobOfferDetailCache jobOfferDetailCache, JobRecommendationIndex recommendationIndex) {
         this.jobOfferRepository = jobOfferRepository;
         this.notificationService = notificationService;
         this.candidateClient = candidateClient;
+        this.searchIndex = searchIndex;
+        this.profileStatusCache = profileStatusCache;
+        this.applicationStatsService = applicationStatsService;
+        this.jobOfferDetailCache = jobOfferDetailCache;
+        this.recommendationIndex = recommendationIndex;
     }
 
     @Override
     @Transactional
     public JobOffer createJobOffer(CreateJobOfferDto dto, String clientId) {
-        // 🔍 Vérifier le statut du profil client via Feign
-        String profileStatus = candidateClient.getClientProfileStatus(clientId, "CLIENT");
+        // 🔍 Vérifier le statut du profil client (cache local, Feign en cas de miss)
+        String profileStatus = profileStatusCache.getClientStatus(clientId);
 
         if (!"APPROVED".equalsIgnoreCase(profileStatus)) {
             throw new IllegalStateException("Your profile is " + profileStatus + ". You must be APPROVED to create a job offer.");
@@ -57,6 +86,9 @@ public class JobOfferService implements IServiceJobOffer {
                 .build();
 
         JobOffer savedJobOffer = jobOfferRepository.save(jobOffer);
+        searchIndex.indexAfterCommit(savedJobOffer);
+        recommendationIndex.indexAfterCommit(savedJobOffer);
+        applicationStatsService.initialize(savedJobOffer.getJobOfferId(), clientId);
 
         // 📨 Kafka event
         try {
@@ -84,7 +116,12 @@ public class JobOfferService implements IServiceJobOffer {
     @Override
     @Transactional
     public Optional<JobOffer> getJobOfferById(Long jobOfferId) {
-        return jobOfferRepository.findById(jobOfferId);
+        return jobOfferDetailCache.getJobOffer(jobOfferId);
+    }
+
+    @Override
+    public Optional<JobOfferDetail> getJobOfferDetail(Long jobOfferId) {
+        return jobOfferDetailCache.get(jobOfferId);
     }
 
     @Override
@@ -95,8 +132,66 @@ public class JobOfferService implements IServiceJobOffer {
 
     @Override
     @Transactional
-    public List<JobOffer> getAllJobOffers() {
-        return jobOfferRepository.findAll();
+    public JobOfferFeedPage getJobOfferFeed(String cursor, int limit) {
+        int pageSize = limit <= 0 ? DEFAULT_FEED_LIMIT : Math.min(limit, MAX_FEED_LIMIT);
+        // Fetch one extra row to know whether there is a next page without a count query
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<JobOfferSummary> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = jobOfferRepository.findFeedFirstPage(pageable);
+        } else {
+            FeedCursor position = decodeCursor(cursor);
+            rows = jobOfferRepository.findFeedPageAfter(position.createdAt(), position.jobOfferId(), pageable);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<JobOfferSummary> items = hasMore ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+        String nextCursor = hasMore ? encodeCursor(items.get(items.size() - 1)) : null;
+
+        return new JobOfferFeedPage(items, nextCursor, hasMore);
+    }
+
+    @Override
+    @Transactional
+    public JobOfferSkillFilterPage filterJobOffersBySkills(Set<RequiredSkill> allSkills, Set<RequiredSkill> anySkills,
+                                                           int page, int size) {
+        boolean hasAll = allSkills != null && !allSkills.isEmpty();
+        boolean hasAny = anySkills != null && !anySkills.isEmpty();
+        if (!hasAll && !hasAny) {
+            throw new IllegalArgumentException("At least one skill is required in 'all' or 'any'");
+        }
+
+        int pageSize = size <= 0 ? DEFAULT_FEED_LIMIT : Math.min(size, MAX_FEED_LIMIT);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), pageSize);
+
+        Page<JobOffer> offers;
+        if (hasAll && hasAny) {
+            offers = jobOfferRepository.findRequiringAllAndAnySkills(toJsonArray(allSkills), toJsonArray(anySkills), pageable);
+        } else if (hasAll) {
+            offers = jobOfferRepository.findRequiringAllSkills(toJsonArray(allSkills), pageable);
+        } else {
+            offers = jobOfferRepository.findRequiringAnySkill(toJsonArray(anySkills), pageable);
+        }
+
+        List<JobOfferSummary> items = offers.getContent().stream()
+                .map(JobOfferSummary::fromEntity)
+                .collect(Collectors.toList());
+        return new JobOfferSkillFilterPage(items, offers.getNumber(), offers.getSize(),
+                offers.getTotalElements(), offers.getTotalPages(), offers.hasNext());
+    }
+
+    // Enum names need no escaping, so the JSON array can be written directly
+    private static String toJsonArray(Set<RequiredSkill> skills) {
+        return skills.stream()
+                .map(skill -> "\"" + skill.name() + "\"")
+                .sorted()
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    @Override
+    public ClientApplicationStatsResponse getApplicationStatsByClientId(String clientId) {
+        return applicationStatsService.getClientStats(clientId);
     }
 
     @Override
@@ -114,7 +209,11 @@ public class JobOfferService implements IServiceJobOffer {
         }
         if (dto.getEmploymentType() != null) existingJobOffer.setEmploymentType(dto.getEmploymentType());
 
-        return jobOfferRepository.save(existingJobOffer);
+        JobOffer updatedJobOffer = jobOfferRepository.save(existingJobOffer);
+        searchIndex.indexAfterCommit(updatedJobOffer);
+        recommendationIndex.indexAfterCommit(updatedJobOffer);
+        jobOfferDetailCache.evictAfterCommit(jobOfferId);
+        return updatedJobOffer;
     }
 
     @Override
@@ -124,26 +223,82 @@ public class JobOfferService implements IServiceJobOffer {
                 .orElseThrow(() -> new JobOfferNotFoundException("Job offer not found with id " + jobOfferId));
 
         jobOfferRepository.delete(existingJobOffer);
+        searchIndex.removeAfterCommit(jobOfferId);
+        recommendationIndex.removeAfterCommit(jobOfferId);
+        jobOfferDetailCache.evictAfterCommit(jobOfferId);
+        applicationStatsService.remove(jobOfferId);
+    }
+
+    @Override
+    public JobOfferSearchResponse searchJobOffers(String query, String location, EmploymentType employmentType,
+                                                  Set<String> skills, int offset, int limit) {
+        int pageSize = limit <= 0 ? DEFAULT_FEED_LIMIT : Math.min(limit, MAX_FEED_LIMIT);
+        return searchIndex.search(query, location, employmentType, skills, offset, pageSize);
+    }
+
+    @Override
+    public JobRecommendationFeed getRecommendations(String candidateId, int limit) {
+        if (limit < 1 || limit > MAX_FEED_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_FEED_LIMIT);
+        }
+        List<JobRecommendation> recommendations = recommendationIndex.recommendationsFor(candidateId)
+                .orElseGet(() -> seedRecommendations(candidateId));
+        List<JobRecommendation> page = recommendations.subList(0, Math.min(limit, recommendations.size()));
+        return new JobRecommendationFeed(candidateId, page);
+    }
+
+    // First feed request for this candidate since startup: skills events keep it current afterwards
+    private List<JobRecommendation> seedRecommendations(String candidateId) {
+        CandidateResponse candidate = candidateClient.getCandidateByUserId("Candidate", candidateId);
+        Set<String> skills = new HashSet<>();
+        if (candidate != null && candidate.getSkills() != null) {
+            for (SkillsResponse entry : candidate.getSkills()) {
+                addAll(skills, entry.getProgrammingLanguages());
+                addAll(skills, entry.getTechnicalSkills());
+                addAll(skills, entry.getToolsAndTechnologies());
+                addAll(skills, entry.getCustomSkills());
+                addAll(skills, entry.getSoftSkills());
+            }
+        }
+        recommendationIndex.seedCandidate(candidateId, skills);
+        return recommendationIndex.recommendationsFor(candidateId).orElse(List.of());
+    }
+
+    private static void addAll(Set<String> target, Set<String> values) {
+        if (values != null) {
+            target.addAll(values);
+        }
     }
 
     @Override
     public JobOfferResponse mapToJobOfferResponse(JobOffer jobOffer) {
-        JobOfferResponse response = new JobOfferResponse();
-        response.setJobOfferId(jobOffer.getJobOfferId());
-        response.setClientId(jobOffer.getClientId());
-        response.setTitle(jobOffer.getTitle());
-        response.setDescription(jobOffer.getDescription());
-        response.setLocation(jobOffer.getLocation());
-        response.setSalaryRange(jobOffer.getSalaryRange());
-        response.setRequiredExperience(jobOffer.getRequiredExperience());
-        response.setRequiredSkills(jobOffer.getRequiredSkills());
-        response.setEmploymentType(jobOffer.getEmploymentType().toString());
-        response.setCreatedAt(jobOffer.getCreatedAt());
+        return JobOfferResponseMapper.toResponse(jobOffer);
+    }
+
 
-        return response;
+
+    private record FeedCursor(LocalDateTime createdAt, Long jobOfferId) {
     }
 
+    private static String encodeCursor(JobOfferSummary last) {
+        String raw = last.getCreatedAt() + "|" + last.getJobOfferId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
 
+    private static FeedCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new FeedCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
 
     /// //
 //    @Override
@@ -1,23 +1,36 @@
 package com.talentcloud.job.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.talentcloud.job.events.ApplicationStatusChangedEvent;
 import com.talentcloud.job.events.ApplicationSubmittedEvent;
+import com.talentcloud.job.events.BaseEvent;
 import com.talentcloud.job.events.JobOfferCreatedEvent;
+import com.talentcloud.job.model.OutboxEvent;
+import com.talentcloud.job.repository.OutboxEventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.concurrent.CompletableFuture;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * Records Kafka events in the outbox table as part of the caller's transaction.
+ * Publishing is done by OutboxRelay once the transaction has committed.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
 
     @Value("${kafka.topics.job-created}")
     private String jobCreatedTopic;
@@ -28,49 +41,85 @@ public class NotificationService {
     @Value("${kafka.topics.application-status-changed}")
     private String applicationStatusChangedTopic;
 
+    @Transactional
     public void sendJobCreatedEvent(JobOfferCreatedEvent event) {
-        log.info("Sending job created event: {}", event);
-        CompletableFuture<SendResult<String, Object>> future =
-                kafkaTemplate.send(jobCreatedTopic, event.getJobOfferId().toString(), event);
-
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                log.info("Successfully sent job created event for job ID: {}", event.getJobOfferId());
-            } else {
-                log.error("Failed to send job created event for job ID: {}", event.getJobOfferId(), ex);
-            }
-        });
+        log.info("Queueing job created event: {}", event);
+        enqueue(jobCreatedTopic, event.getJobOfferId().toString(), event);
     }
 
+    @Transactional
     public void sendApplicationSubmittedEvent(ApplicationSubmittedEvent event) {
-        log.info("Sending application submitted event: {}", event);
-        CompletableFuture<SendResult<String, Object>> future =
-                kafkaTemplate.send(applicationSubmittedTopic, event.getApplicationId().toString(), event);
-
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                log.info("Successfully sent application submitted event for application ID: {}",
-                        event.getApplicationId());
-            } else {
-                log.error("Failed to send application submitted event for application ID: {}",
-                        event.getApplicationId(), ex);
-            }
-        });
+        log.info("Queueing application submitted event: {}", event);
+        enqueue(applicationSubmittedTopic, event.getApplicationId().toString(), event);
     }
 
+    /**
+     * Queue an application submitted event that the relay holds back for at most maxHold,
+     * giving the caller time to enrich it with releaseDeferredEvent after the commit.
+     * If it is never released the event is published as queued.
+     *
+     * @return the id of the outbox row to release
+     */
+    @Transactional
+    public Long deferApplicationSubmittedEvent(ApplicationSubmittedEvent event, Duration maxHold) {
+        log.info("Queueing deferred application submitted event: {}", event);
+        return enqueue(applicationSubmittedTopic, event.getApplicationId().toString(), event,
+                LocalDateTime.now().plus(maxHold)).getId();
+    }
+
+    // Runs after the caller's commit, so it needs its own transaction
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void releaseDeferredEvent(Long outboxEventId, BaseEvent enrichedEvent) {
+        int updated = outboxEventRepository.release(outboxEventId, serialize(enrichedEvent), LocalDateTime.now());
+        if (updated == 0) {
+            log.warn("Outbox event {} was already published before it could be enriched", outboxEventId);
+        }
+    }
+
+    @Transactional
     public void sendApplicationStatusChangedEvent(ApplicationStatusChangedEvent event) {
-        log.info("Sending application status changed event: {}", event);
-        CompletableFuture<SendResult<String, Object>> future =
-                kafkaTemplate.send(applicationStatusChangedTopic, event.getApplicationId().toString(), event);
-
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                log.info("Successfully sent application status changed event for application ID: {} with new status: {}",
-                        event.getApplicationId(), event.getNewStatus());
-            } else {
-                log.error("Failed to send application status changed event for application ID: {}",
-                        event.getApplicationId(), ex);
-            }
-        });
+        log.info("Queueing application status changed event: {}", event);
+        enqueue(applicationStatusChangedTopic, event.getApplicationId().toString(), event);
+    }
+
+    @Transactional
+    public void sendApplicationStatusChangedEvents(List<ApplicationStatusChangedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        log.info("Queueing {} application status changed events", events.size());
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> rows = new ArrayList<>(events.size());
+        for (ApplicationStatusChangedEvent event : events) {
+            rows.add(toOutboxEvent(applicationStatusChangedTopic, event.getApplicationId().toString(), event, now));
+        }
+        outboxEventRepository.saveAll(rows);
+    }
+
+    private OutboxEvent enqueue(String topic, String key, BaseEvent event) {
+        return enqueue(topic, key, event, LocalDateTime.now());
+    }
+
+    private OutboxEvent enqueue(String topic, String key, BaseEvent event, LocalDateTime availableAt) {
+        return outboxEventRepository.save(toOutboxEvent(topic, key, event, availableAt));
+    }
+
+    private OutboxEvent toOutboxEvent(String topic, String key, BaseEvent event, LocalDateTime availableAt) {
+        return OutboxEvent.builder()
+                .topic(topic)
+                .messageKey(key)
+                .eventType(event.getEventType())
+                .payload(serialize(event))
+                .createdAt(LocalDateTime.now())
+                .availableAt(availableAt)
+                .build();
+    }
+
+    private String serialize(BaseEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + event.getEventType() + " event", e);
+        }
     }
-}
\ No newline at end of file
+}
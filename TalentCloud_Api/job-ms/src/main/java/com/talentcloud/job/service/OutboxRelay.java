@@ -0,0 +1,240 @@
+package com.talentcloud.job.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentcloud.job.events.ApplicationStatusChangedEvent;
+import com.talentcloud.job.events.ApplicationSubmittedEvent;
+import com.talentcloud.job.events.BaseEvent;
+import com.talentcloud.job.events.JobOfferCreatedEvent;
+import com.talentcloud.job.model.OutboxEvent;
+import com.talentcloud.job.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains the outbox table in batches and publishes the events to Kafka.
+ * Rows are only marked as sent once the broker has acknowledged them (at-least-once delivery).
+ * Payloads are kept as JSON in the table and read back into their event class here, so that the
+ * Kafka serializer writes them in the binary event format.
+ * <p>
+ * Events sharing a key are published one at a time: the next one is only sent once the previous one
+ * was acknowledged, and not at all while an earlier one is waiting to be retried. Only one instance
+ * relays at a time, so this holds across job-ms replicas too. A failed row is retried with an
+ * exponential backoff and parked after {@code outbox.relay.max-attempts}; a parked row no longer
+ * holds back the rows behind it.
+ * <p>
+ * Per topic, {@code kafka.outbox.send} times how long {@code send} blocks the relay (serialization,
+ * metadata, a full buffer) and {@code kafka.outbox.ack} the time until the broker acknowledged
+ * or rejected the record. Records that could not be handed to the producer count in
+ * {@code kafka.outbox.send.errors}, parked rows in {@code kafka.outbox.parked}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private static final Map<String, Class<? extends BaseEvent>> EVENT_CLASSES = Map.of(
+            "JOB_OFFER_CREATED", JobOfferCreatedEvent.class,
+            "APPLICATION_SUBMITTED", ApplicationSubmittedEvent.class,
+            "APPLICATION_STATUS_CHANGED", ApplicationStatusChangedEvent.class);
+
+    // Postgres advisory lock id held by the instance currently relaying
+    static final long RELAY_LOCK_ID = 0x6f7574626f78L;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.relay.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.relay.backoff-initial-ms:1000}")
+    private long backoffInitialMs;
+
+    @Value("${outbox.relay.backoff-max-ms:300000}")
+    private long backoffMaxMs;
+
+    @Value("${outbox.retention-days:7}")
+    private int retentionDays;
+
+    // Keeps going while whole batches are published; any failure leaves the rest to the next poll
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:500}")
+    public void relay() {
+        Integer published;
+        do {
+            published = transactionTemplate.execute(status -> publishNextBatch());
+        } while (published != null && published == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.cleanup.interval-ms:3600000}")
+    public void purgeSentEvents() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteSentBefore(LocalDateTime.now().minusDays(retentionDays)));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} sent outbox events", deleted);
+        }
+    }
+
+    private record PendingSend(OutboxEvent event, CompletableFuture<SendResult<String, Object>> result) {
+    }
+
+    /**
+     * @return the number of rows the broker acknowledged
+     */
+    private int publishNextBatch() {
+        if (!outboxEventRepository.tryRelayLock(RELAY_LOCK_ID)) {
+            return 0;
+        }
+        List<OutboxEvent> batch = outboxEventRepository.lockNextUnsentBatch(LocalDateTime.now(), batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // One lane per key, in id order; rows without a key do not depend on each other
+        Map<Object, Deque<OutboxEvent>> lanes = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            lanes.computeIfAbsent(lane(event), lane -> new ArrayDeque<>()).add(event);
+        }
+
+        // Each round sends the head of every lane and waits for the acks before the next round.
+        // A failed lane is dropped; its remaining rows stay unsent and behind the failed one.
+        int published = 0;
+        while (!lanes.isEmpty()) {
+            List<PendingSend> inFlight = new ArrayList<>(lanes.size());
+            Iterator<Deque<OutboxEvent>> remaining = lanes.values().iterator();
+            while (remaining.hasNext()) {
+                OutboxEvent event = remaining.next().poll();
+                try {
+                    BaseEvent payload = objectMapper.readValue(event.getPayload(), eventClass(event));
+                    inFlight.add(new PendingSend(event, send(event.getTopic(), event.getMessageKey(), payload)));
+                } catch (Exception e) {
+                    sendErrors(event.getTopic(), e).increment();
+                    markFailed(event, e);
+                    remaining.remove();
+                }
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+            for (PendingSend pending : inFlight) {
+                OutboxEvent event = pending.event();
+                try {
+                    long wait = Math.max(0, deadline - System.nanoTime());
+                    pending.result().get(wait, TimeUnit.NANOSECONDS);
+                    event.setSentAt(LocalDateTime.now());
+                    published++;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    markFailed(event, e);
+                    lanes.remove(lane(event));
+                } catch (ExecutionException | TimeoutException e) {
+                    markFailed(event, e);
+                    lanes.remove(lane(event));
+                }
+            }
+            lanes.values().removeIf(Deque::isEmpty);
+        }
+
+        outboxEventRepository.saveAll(batch);
+        log.debug("Published {} of {} outbox events", published, batch.size());
+        return published;
+    }
+
+    private static Object lane(OutboxEvent event) {
+        return event.getMessageKey() != null ? event.getMessageKey() : event.getId();
+    }
+
+    private static Class<? extends BaseEvent> eventClass(OutboxEvent event) {
+        Class<? extends BaseEvent> eventClass = EVENT_CLASSES.get(event.getEventType());
+        if (eventClass == null) {
+            throw new IllegalStateException("Unknown outbox event type " + event.getEventType());
+        }
+        return eventClass;
+    }
+
+    private CompletableFuture<SendResult<String, Object>> send(String topic, String key, BaseEvent payload) {
+        long start = System.nanoTime();
+        CompletableFuture<SendResult<String, Object>> result = kafkaTemplate.send(topic, key, payload);
+        timer("kafka.outbox.send", "Time spent handing a record to the Kafka producer", topic, "submitted")
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        // Runs on the producer I/O thread, keep it to the timer update
+        result.whenComplete((sendResult, e) ->
+                timer("kafka.outbox.ack", "Time until the broker acknowledged a record", topic, e == null ? "success" : "failure")
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        return result;
+    }
+
+    private Timer timer(String name, String description, String topic, String outcome) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("topic", topic)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter sendErrors(String topic, Exception e) {
+        return Counter.builder("kafka.outbox.send.errors")
+                .description("Records that could not be handed to the Kafka producer")
+                .tag("topic", topic)
+                .tag("error", e.getClass().getSimpleName())
+                .register(meterRegistry);
+    }
+
+    private void markFailed(OutboxEvent event, Exception e) {
+        event.setAttempts(event.getAttempts() + 1);
+        String message = String.valueOf(e.getMessage());
+        event.setLastError(message.length() > 1000 ? message.substring(0, 1000) : message);
+        if (event.getAttempts() >= maxAttempts) {
+            event.setParkedAt(LocalDateTime.now());
+            Counter.builder("kafka.outbox.parked")
+                    .description("Outbox rows given up on after too many failed attempts")
+                    .tag("topic", event.getTopic())
+                    .register(meterRegistry)
+                    .increment();
+            log.error("Parked outbox event {} ({}) for topic {} after {} attempts",
+                    event.getId(), event.getEventType(), event.getTopic(), event.getAttempts(), e);
+            return;
+        }
+        Duration backoff = backoff(event.getAttempts());
+        event.setAvailableAt(LocalDateTime.now().plus(backoff));
+        log.warn("Failed to publish outbox event {} ({}) to topic {}, attempt {}, retrying in {}s: {}",
+                event.getId(), event.getEventType(), event.getTopic(), event.getAttempts(),
+                backoff.toSeconds(), message);
+    }
+
+    // backoffInitialMs, doubled per further attempt, capped at backoffMaxMs
+    private Duration backoff(int attempts) {
+        int doublings = Math.min(Math.max(attempts - 1, 0), 30);
+        return Duration.ofMillis(Math.min(backoffMaxMs, backoffInitialMs << doublings));
+    }
+}
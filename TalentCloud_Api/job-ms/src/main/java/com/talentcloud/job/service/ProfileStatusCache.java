@@ -0,0 +1,75 @@
+package com.talentcloud.job.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.talentcloud.job.config.CandidateClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Local, bounded copy of candidate and client profile statuses.
+ * Kept current by the profile status events from profile-ms; a miss falls back to a Feign call.
+ * Entries also expire so that status changes profile-ms does not publish (e.g. PENDING after an edit)
+ * are picked up within the TTL.
+ */
+@Slf4j
+@Service
+public class ProfileStatusCache {
+
+    public static final String CANDIDATE = "CANDIDATE";
+    public static final String CLIENT = "CLIENT";
+
+    private final CandidateClient candidateClient;
+    private final Cache<String, String> candidateStatuses;
+    private final Cache<String, String> clientStatuses;
+
+    public ProfileStatusCache(CandidateClient candidateClient,
+                              @Value("${profile-status-cache.maximum-size:100000}") long maximumSize,
+                              @Value("${profile-status-cache.ttl-minutes:10}") long ttlMinutes) {
+        this.candidateClient = candidateClient;
+        this.candidateStatuses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+        this.clientStatuses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    /**
+     * @return the cached status, or null when profile-ms has to be asked
+     */
+    public String cachedCandidateStatus(String userId) {
+        return candidateStatuses.getIfPresent(userId);
+    }
+
+    public String getCandidateStatus(String userId) {
+        return candidateStatuses.get(userId, id -> normalize(candidateClient.getCandidateProfileStatus(id, CANDIDATE)));
+    }
+
+    public String getClientStatus(String userId) {
+        return clientStatuses.get(userId, id -> normalize(candidateClient.getClientProfileStatus(id, CLIENT)));
+    }
+
+    public void update(String userType, String userId, String profileStatus) {
+        if (userId == null || profileStatus == null) {
+            return;
+        }
+        if (CANDIDATE.equalsIgnoreCase(userType)) {
+            candidateStatuses.put(userId, normalize(profileStatus));
+        } else if (CLIENT.equalsIgnoreCase(userType)) {
+            clientStatuses.put(userId, normalize(profileStatus));
+        } else {
+            log.warn("Ignoring profile status for unknown user type {} (userId {})", userType, userId);
+        }
+    }
+
+    private static String normalize(String profileStatus) {
+        return profileStatus == null ? null : profileStatus.trim().toUpperCase(Locale.ROOT);
+    }
+}
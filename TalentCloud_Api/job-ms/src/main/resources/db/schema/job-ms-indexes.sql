@@ -0,0 +1,33 @@
+-- Indexes Hibernate cannot express through @Index. Runs after ddl-auto on every start, so each statement must be idempotent.
+
+-- Both skill filters only use @> (the "any" one as @> ANY(...), which bitmap scans split per element),
+-- so jsonb_path_ops is enough and keeps the index smaller than the default jsonb_ops.
+-- Renamed so that databases holding the earlier jsonb_ops index get it replaced.
+DROP INDEX IF EXISTS idx_job_offers_required_skills;
+CREATE INDEX IF NOT EXISTS idx_job_offers_required_skills_path ON job_offers USING GIN (required_skills jsonb_path_ops);
+
+-- One application per candidate and job offer, ApplicationRepository.insertIfAbsent relies on it for ON CONFLICT.
+-- Duplicates left behind by the former lookup-then-insert are removed first, keeping the oldest, and taken off
+-- the stats counters; afterwards this deletes nothing.
+WITH removed AS (
+    DELETE FROM applications a
+    USING applications kept
+    WHERE kept.job_offer_id = a.job_offer_id AND kept.candidate_id = a.candidate_id AND kept.id < a.id
+    RETURNING a.job_offer_id, a.status
+), counts AS (
+    SELECT job_offer_id,
+           COUNT(*) FILTER (WHERE status = 'SUBMITTED') AS submitted,
+           COUNT(*) FILTER (WHERE status = 'UNDER_REVIEW') AS under_review,
+           COUNT(*) FILTER (WHERE status = 'ACCEPTED') AS accepted,
+           COUNT(*) FILTER (WHERE status = 'REFUSED') AS refused
+    FROM removed
+    GROUP BY job_offer_id
+)
+UPDATE job_application_stats s
+SET submitted = s.submitted - c.submitted,
+    under_review = s.under_review - c.under_review,
+    accepted = s.accepted - c.accepted,
+    refused = s.refused - c.refused
+FROM counts c
+WHERE s.job_offer_id = c.job_offer_id;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_applications_job_offer_candidate ON applications (job_offer_id, candidate_id);
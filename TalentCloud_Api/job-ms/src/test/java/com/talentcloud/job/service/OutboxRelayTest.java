@@ -0,0 +1,189 @@
+package com.talentcloud.job.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentcloud.job.model.OutboxEvent;
+import com.talentcloud.job.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private static final String PAYLOAD = "{\"applicationId\":1}";
+
+    private OutboxEventRepository repository;
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = mock(OutboxEventRepository.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        relay = new OutboxRelay(repository, kafkaTemplate, new ObjectMapper(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(relay, "batchSize", 2);
+        ReflectionTestUtils.setField(relay, "sendTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(relay, "maxAttempts", 3);
+        ReflectionTestUtils.setField(relay, "backoffInitialMs", 1000L);
+        ReflectionTestUtils.setField(relay, "backoffMaxMs", 60000L);
+        when(repository.tryRelayLock(anyLong())).thenReturn(true);
+    }
+
+    @Test
+    void keepsPollingWhileFullBatchesArePublished() {
+        when(repository.lockNextUnsentBatch(any(), anyInt()))
+                .thenReturn(List.of(event(1L, "a"), event(2L, "b")))
+                .thenReturn(List.of());
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenAnswer(invocation -> acked());
+
+        relay.relay();
+
+        verify(repository, times(2)).lockNextUnsentBatch(any(), anyInt());
+    }
+
+    @Test
+    void stopsPollingAndBacksOffWhenARowFails() {
+        OutboxEvent failing = event(1L, "a");
+        OutboxEvent published = event(2L, "b");
+        when(repository.lockNextUnsentBatch(any(), anyInt())).thenReturn(List.of(failing, published));
+        when(kafkaTemplate.send(anyString(), eq("a"), any())).thenAnswer(invocation -> rejected());
+        when(kafkaTemplate.send(anyString(), eq("b"), any())).thenAnswer(invocation -> acked());
+
+        LocalDateTime before = LocalDateTime.now();
+        relay.relay();
+
+        verify(repository, times(1)).lockNextUnsentBatch(any(), anyInt());
+        assertNull(failing.getSentAt());
+        assertEquals(1, failing.getAttempts());
+        assertTrue(failing.getAvailableAt().isAfter(before));
+        assertNull(failing.getParkedAt());
+        assertNotNull(published.getSentAt());
+    }
+
+    @Test
+    void backoffGrowsWithEachAttempt() {
+        OutboxEvent failing = event(1L, "a");
+        failing.setAttempts(1);
+        when(repository.lockNextUnsentBatch(any(), anyInt())).thenReturn(List.of(failing));
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenAnswer(invocation -> rejected());
+
+        LocalDateTime before = LocalDateTime.now();
+        relay.relay();
+
+        assertEquals(2, failing.getAttempts());
+        assertFalse(failing.getAvailableAt().isBefore(before.plusSeconds(2)));
+    }
+
+    @Test
+    void parksARowAfterMaxAttempts() {
+        OutboxEvent failing = event(1L, "a");
+        failing.setAttempts(2);
+        when(repository.lockNextUnsentBatch(any(), anyInt())).thenReturn(List.of(failing));
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenAnswer(invocation -> rejected());
+
+        relay.relay();
+
+        assertEquals(3, failing.getAttempts());
+        assertNotNull(failing.getParkedAt());
+        assertNull(failing.getSentAt());
+    }
+
+    @Test
+    void unreadablePayloadFailsWithoutSending() {
+        OutboxEvent unknown = event(1L, "a");
+        unknown.setEventType("SOMETHING_ELSE");
+        when(repository.lockNextUnsentBatch(any(), anyInt())).thenReturn(List.of(unknown));
+
+        relay.relay();
+
+        verifyNoInteractions(kafkaTemplate);
+        assertEquals(1, unknown.getAttempts());
+        assertNotNull(unknown.getAvailableAt());
+    }
+
+    @Test
+    void sendsTheNextEventOfAKeyOnlyAfterThePreviousWasAcknowledged() {
+        OutboxEvent first = event(1L, "a");
+        OutboxEvent second = event(2L, "a");
+        when(repository.lockNextUnsentBatch(any(), anyInt())).thenReturn(List.of(first, second)).thenReturn(List.of());
+        List<CompletableFuture<SendResult<String, Object>>> sent = new ArrayList<>();
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            sent.forEach(previous -> assertTrue(previous.isDone(), "previous event of the key still in flight"));
+            CompletableFuture<SendResult<String, Object>> result = new CompletableFuture<>();
+            sent.add(result);
+            // Acknowledged shortly after send returns, like the producer I/O thread would
+            CompletableFuture.runAsync(() -> result.complete(null),
+                    CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+            return result;
+        });
+
+        relay.relay();
+
+        assertEquals(2, sent.size());
+        assertNotNull(first.getSentAt());
+        assertNotNull(second.getSentAt());
+    }
+
+    @Test
+    void doesNotSendPastAFailedEventOfTheSameKey() {
+        OutboxEvent failing = event(1L, "a");
+        OutboxEvent behind = event(2L, "a");
+        when(repository.lockNextUnsentBatch(any(), anyInt())).thenReturn(List.of(failing, behind));
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenAnswer(invocation -> rejected());
+
+        relay.relay();
+
+        verify(kafkaTemplate, times(1)).send(anyString(), anyString(), any());
+        assertEquals(1, failing.getAttempts());
+        assertEquals(0, behind.getAttempts());
+        assertNull(behind.getSentAt());
+    }
+
+    @Test
+    void skipsThePollWhileAnotherInstanceRelays() {
+        when(repository.tryRelayLock(anyLong())).thenReturn(false);
+
+        relay.relay();
+
+        verify(repository, never()).lockNextUnsentBatch(any(), anyInt());
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    private static OutboxEvent event(Long id, String key) {
+        return OutboxEvent.builder()
+                .id(id)
+                .topic("application-status-changed")
+                .messageKey(key)
+                .eventType("APPLICATION_STATUS_CHANGED")
+                .payload(PAYLOAD)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static CompletableFuture<SendResult<String, Object>> acked() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static CompletableFuture<SendResult<String, Object>> rejected() {
+        return CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"));
+    }
+}
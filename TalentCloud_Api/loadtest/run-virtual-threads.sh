@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# Compares platform and virtual request threads for one service.
+# The service's dependencies (PostgreSQL, Kafka, Eureka, profile-ms...) must already be running.
+#
+#   ./run-virtual-threads.sh ../job-ms/target/job-ms-0.0.1-SNAPSHOT.jar 8083 \
+#       http://localhost:8083/v1/applications/job/1/with-candidates
+#
+# Needs java, k6, curl and jq. Writes the k6 summaries to results/<mode>.json.
+set -euo pipefail
+
+JAR=${1:?usage: $0 <service jar> <port> <target url>}
+PORT=${2:?usage: $0 <service jar> <port> <target url>}
+TARGET_URL=${3:?usage: $0 <service jar> <port> <target url>}
+RESULTS_DIR=$(dirname "$0")/results
+mkdir -p "$RESULTS_DIR"
+
+run_mode() {
+    local mode=$1 virtual=$2
+    echo "=== $mode threads ==="
+    SPRING_THREADS_VIRTUAL_ENABLED=$virtual java -jar "$JAR" > "$RESULTS_DIR/$mode.log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null || true" EXIT
+
+    until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Service exited, see $RESULTS_DIR/$mode.log" >&2
+            exit 1
+        fi
+        sleep 2
+    done
+
+    k6 run --quiet -e TARGET_URL="$TARGET_URL" --summary-export "$RESULTS_DIR/$mode.json" \
+        "$(dirname "$0")/virtual-threads.js"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+run_mode platform false
+run_mode virtual true
+
+printf '\n%-10s %12s %10s %10s %10s\n' mode 'req/s' 'p50 ms' 'p95 ms' 'failed'
+for mode in platform virtual; do
+    jq -r --arg mode "$mode" '[$mode,
+            (.metrics.http_reqs.rate | floor),
+            (.metrics.http_req_duration["p(50)"] | floor),
+            (.metrics.http_req_duration["p(95)"] | floor),
+            ((.metrics.http_req_failed.value * 100 | floor | tostring) + "%")] | @tsv' \
+        "$RESULTS_DIR/$mode.json" | awk -F'\t' '{ printf "%-10s %12s %10s %10s %10s\n", $1, $2, $3, $4, $5 }'
+done
@@ -0,0 +1,35 @@
+// k6 load test for a blocking request path (JPA + Feign), run once per thread mode by
+// run-virtual-threads.sh. Can also be run on its own:
+//   k6 run -e TARGET_URL=http://localhost:8083/v1/applications/job/1/with-candidates virtual-threads.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const TARGET_URL = __ENV.TARGET_URL || 'http://localhost:8083/v1/applications/job/1/with-candidates';
+const USER_ID = __ENV.USER_ID || 'loadtest-admin';
+const USER_ROLES = __ENV.USER_ROLES || 'Admin';
+
+// Ramp well past the 200 Tomcat workers of the platform-thread mode
+export const options = {
+    scenarios: {
+        ramp: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 100 },
+                { duration: '30s', target: 400 },
+                { duration: '60s', target: 800 },
+                { duration: '15s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+    const response = http.get(TARGET_URL, {
+        headers: { 'X-User-Id': USER_ID, 'X-User-Roles': USER_ROLES },
+        timeout: '30s',
+    });
+    check(response, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
@@ -1,19 +1,24 @@
 package com.talentcloud.notification_ms.config;
 
+import com.talentcloud.events.codec.EventDeserializer;
+import com.talentcloud.notification_ms.dto.ApplicationStatusChangedEvent;
+import com.talentcloud.notification_ms.dto.ApplicationSubmittedEvent;
+import com.talentcloud.notification_ms.dto.JobOfferCreatedEvent;
 import com.talentcloud.notification_ms.dto.event.ClientProfileCreatedEvent;
 import com.talentcloud.notification_ms.dto.event.ProfileCreatedEvent;
 import com.talentcloud.notification_ms.dto.event.ProfileStatusChangedEvent;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
@@ -22,15 +27,17 @@ import java.util.Map;
 @Configuration
 public class KafkaConsumerConfig {
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     private Map<String, Object> getCommonConsumerProperties() {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092");
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
         props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
         props.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
-        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
-        props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.talentcloud.notification_ms.dto.event");
-        props.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        // Binary events from the shared event-schema module, JSON records are still understood
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, EventDeserializer.class);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
         props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
         return props;
@@ -41,7 +48,7 @@ public class KafkaConsumerConfig {
     public ConsumerFactory<String, ProfileCreatedEvent> profileCreatedEventConsumerFactory() {
         Map<String, Object> props = getCommonConsumerProperties();
         props.put(ConsumerConfig.GROUP_ID_CONFIG, "notification-profile-created-group");
-        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, ProfileCreatedEvent.class.getName());
+        props.put(EventDeserializer.VALUE_TYPE, ProfileCreatedEvent.class.getName());
         return new DefaultKafkaConsumerFactory<>(props);
     }
 
@@ -49,6 +56,7 @@ public class KafkaConsumerConfig {
     public ConcurrentKafkaListenerContainerFactory<String, ProfileCreatedEvent> profileCreatedKafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, ProfileCreatedEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(profileCreatedEventConsumerFactory());
+        setVirtualThreadExecutor(factory, "profile-created-");
         factory.setCommonErrorHandler(getDefaultErrorHandler());
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
         return factory;
@@ -59,7 +67,7 @@ public class KafkaConsumerConfig {
     public ConsumerFactory<String, ProfileStatusChangedEvent> profileStatusChangedEventConsumerFactory() {
         Map<String, Object> props = getCommonConsumerProperties();
         props.put(ConsumerConfig.GROUP_ID_CONFIG, "notification-profile-status-group");
-        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, ProfileStatusChangedEvent.class.getName());
+        props.put(EventDeserializer.VALUE_TYPE, ProfileStatusChangedEvent.class.getName());
         return new DefaultKafkaConsumerFactory<>(props);
     }
 
@@ -67,6 +75,7 @@ public class KafkaConsumerConfig {
     public ConcurrentKafkaListenerContainerFactory<String, ProfileStatusChangedEvent> profileStatusChangedKafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, ProfileStatusChangedEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(profileStatusChangedEventConsumerFactory());
+        setVirtualThreadExecutor(factory, "profile-status-");
         factory.setCommonErrorHandler(getDefaultErrorHandler());
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
         return factory;
@@ -77,7 +86,7 @@ public class KafkaConsumerConfig {
     public ConsumerFactory<String, ClientProfileCreatedEvent> clientProfileConsumerFactory() {
         Map<String, Object> props = getCommonConsumerProperties();
         props.put(ConsumerConfig.GROUP_ID_CONFIG, "notification-client-profile-group");
-        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, ClientProfileCreatedEvent.class.getName());
+        props.put(EventDeserializer.VALUE_TYPE, ClientProfileCreatedEvent.class.getName());
         return new DefaultKafkaConsumerFactory<>(props);
     }
 
@@ -85,11 +94,51 @@ public class KafkaConsumerConfig {
     public ConcurrentKafkaListenerContainerFactory<String, ClientProfileCreatedEvent> clientProfileCreatedKafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, ClientProfileCreatedEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(clientProfileConsumerFactory());
+        setVirtualThreadExecutor(factory, "client-profile-");
         factory.setCommonErrorHandler(getDefaultErrorHandler());
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
         return factory;
     }
 
+    // -------------------- job-ms events --------------------
+    // Acknowledged per batch like before, these listeners do not take an Acknowledgment
+    private <T> ConcurrentKafkaListenerContainerFactory<String, T> jobEventListenerContainerFactory(
+            Class<T> eventType, String threadNamePrefix) {
+        Map<String, Object> props = getCommonConsumerProperties();
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "notification-consumer-group");
+        props.put(EventDeserializer.VALUE_TYPE, eventType.getName());
+        ConcurrentKafkaListenerContainerFactory<String, T> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        setVirtualThreadExecutor(factory, threadNamePrefix);
+        factory.setCommonErrorHandler(getDefaultErrorHandler());
+        return factory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ApplicationSubmittedEvent> applicationSubmittedKafkaListenerContainerFactory() {
+        return jobEventListenerContainerFactory(ApplicationSubmittedEvent.class, "application-submitted-");
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ApplicationStatusChangedEvent> applicationStatusChangedKafkaListenerContainerFactory() {
+        return jobEventListenerContainerFactory(ApplicationStatusChangedEvent.class, "application-status-");
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, JobOfferCreatedEvent> jobOfferCreatedKafkaListenerContainerFactory() {
+        return jobEventListenerContainerFactory(JobOfferCreatedEvent.class, "job-created-");
+    }
+
+    // -------------------- Virtual threads --------------------
+    // Only the auto-configured factory gets them from spring.threads.virtual.enabled
+    private void setVirtualThreadExecutor(ConcurrentKafkaListenerContainerFactory<?, ?> factory, String threadNamePrefix) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(executor);
+        }
+    }
+
     // -------------------- ErrorHandler Commun --------------------
     private DefaultErrorHandler getDefaultErrorHandler() {
         return new DefaultErrorHandler(
@@ -1,7 +1,5 @@
 package com.talentcloud.notification_ms.kafka;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.talentcloud.notification_ms.client.UserClient;
 import com.talentcloud.notification_ms.dto.*;
 import com.talentcloud.notification_ms.dto.event.ClientProfileCreatedEvent;
@@ -10,7 +8,6 @@ import com.talentcloud.notification_ms.dto.event.ProfileStatusChangedEvent;
 import com.talentcloud.notification_ms.service.EmailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -24,12 +21,12 @@ public class EventConsumer {
     private final EmailService emailService;
     private final UserClient userClient;
 
-    private final ObjectMapper objectMapper = new ObjectMapper()
-            .registerModule(new JavaTimeModule());
-
-    @KafkaListener(topics = "application-submitted-topic", groupId = "notification-consumer-group")
-    public void consumeApplicationSubmitted(ConsumerRecord<String, String> record) throws Exception {
-        ApplicationSubmittedEvent event = objectMapper.readValue(record.value(), ApplicationSubmittedEvent.class);
+    @KafkaListener(
+            topics = "application-submitted-topic",
+            groupId = "notification-consumer-group",
+            containerFactory = "applicationSubmittedKafkaListenerContainerFactory"
+    )
+    public void consumeApplicationSubmitted(ApplicationSubmittedEvent event) {
         log.info("📨 ApplicationSubmittedEvent received: {}", event);
 
         if (event.getClientEmail() != null && !event.getClientEmail().isEmpty()) {
@@ -61,9 +58,12 @@ public class EventConsumer {
         }
     }
 
-    @KafkaListener(topics = "application-status-changed-topic", groupId = "notification-consumer-group")
-    public void consumeStatusChanged(ConsumerRecord<String, String> record) throws Exception {
-        ApplicationStatusChangedEvent event = objectMapper.readValue(record.value(), ApplicationStatusChangedEvent.class);
+    @KafkaListener(
+            topics = "application-status-changed-topic",
+            groupId = "notification-consumer-group",
+            containerFactory = "applicationStatusChangedKafkaListenerContainerFactory"
+    )
+    public void consumeStatusChanged(ApplicationStatusChangedEvent event) {
         log.info("⚠️ ApplicationStatusChangedEvent received: {}", event);
 
         String candidateEmail = event.getCandidateEmail();
@@ -110,9 +110,12 @@ public class EventConsumer {
         }
     }
 
-    @KafkaListener(topics = "job-created-topic", groupId = "notification-consumer-group")
-    public void consumeJobCreated(ConsumerRecord<String, String> record) throws Exception {
-        JobOfferCreatedEvent event = objectMapper.readValue(record.value(), JobOfferCreatedEvent.class);
+    @KafkaListener(
+            topics = "job-created-topic",
+            groupId = "notification-consumer-group",
+            containerFactory = "jobOfferCreatedKafkaListenerContainerFactory"
+    )
+    public void consumeJobCreated(JobOfferCreatedEvent event) {
         log.info("🆕 JobOfferCreatedEvent received: {}", event);
 
         try {
@@ -0,0 +1,116 @@
+package com.talentcloud.profile.cache;
+
+import com.talentcloud.profile.model.Candidate;
+import com.talentcloud.profile.model.Certification;
+import com.talentcloud.profile.model.Client;
+import com.talentcloud.profile.model.Education;
+import com.talentcloud.profile.model.Experience;
+import com.talentcloud.profile.model.Skills;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Evicts the cached profile of whoever owns a changed entity.
+ * <p>
+ * Registered on candidates, clients and the candidate's educations, experiences, certifications
+ * and skills, so every write path is covered without each service remembering to evict. The
+ * eviction runs once the transaction commits; evicting earlier would let a concurrent read put
+ * the old row back.
+ */
+@Slf4j
+@Component
+public class ProfileCacheEvictionListener {
+
+    private record Eviction(String cacheName, String userId) {
+    }
+
+    // Resolved lazily, entity listeners are created while JPA itself is being set up
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    public ProfileCacheEvictionListener(ObjectProvider<CacheManager> cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof Client client) {
+            evictAfterCommit(ProfileCacheNames.CLIENTS, client.getUserId());
+            evictAfterCommit(ProfileCacheNames.CLIENT_EMAILS, client.getUserId());
+        } else {
+            Candidate candidate = owner(entity);
+            if (candidate != null) {
+                evictAfterCommit(ProfileCacheNames.CANDIDATES, candidate.getUserId());
+            }
+        }
+    }
+
+    private static Candidate owner(Object entity) {
+        if (entity instanceof Candidate candidate) {
+            return candidate;
+        } else if (entity instanceof Education education) {
+            return education.getCandidate();
+        } else if (entity instanceof Experience experience) {
+            return experience.getCandidate();
+        } else if (entity instanceof Certification certification) {
+            return certification.getCandidate();
+        } else if (entity instanceof Skills skills) {
+            return skills.getCandidate();
+        }
+        return null;
+    }
+
+    private void evictAfterCommit(String cacheName, String userId) {
+        if (userId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(new Eviction(cacheName, userId));
+            return;
+        }
+        // One eviction per profile and transaction, however many of its rows were written
+        @SuppressWarnings("unchecked")
+        Set<Eviction> pending = (Set<Eviction>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Eviction> evictions = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, evictions);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictions.forEach(ProfileCacheEvictionListener.this::evict);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ProfileCacheEvictionListener.this);
+                }
+            });
+            pending = evictions;
+        }
+        pending.add(new Eviction(cacheName, userId));
+    }
+
+    private void evict(Eviction eviction) {
+        try {
+            Cache cache = cacheManager.getObject().getCache(eviction.cacheName());
+            if (cache != null) {
+                cache.evict(eviction.userId());
+            }
+        } catch (Exception e) {
+            // The change is committed either way, the entry expires with its TTL
+            log.warn("Could not evict {} from cache {}", eviction.userId(), eviction.cacheName(), e);
+        }
+    }
+}
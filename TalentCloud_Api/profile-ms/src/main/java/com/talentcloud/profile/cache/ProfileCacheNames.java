@@ -0,0 +1,19 @@
+package com.talentcloud.profile.cache;
+
+import java.util.Set;
+
+/**
+ * Caches served from a local Caffeine tier in front of Redis, all keyed by userId.
+ */
+public final class ProfileCacheNames {
+
+    // CandidateResponse, with educations, experiences, certifications and skills
+    public static final String CANDIDATES = "candidates";
+    public static final String CLIENTS = "clients";
+    public static final String CLIENT_EMAILS = "client-emails";
+
+    static final Set<String> ALL = Set.of(CANDIDATES, CLIENTS, CLIENT_EMAILS);
+
+    private ProfileCacheNames() {
+    }
+}
@@ -0,0 +1,141 @@
+package com.talentcloud.profile.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+/**
+ * A Caffeine L1 in front of a shared Redis L2.
+ * <p>
+ * Reads try the local tier first and copy L2 hits into it. Writes go to both tiers. An eviction
+ * removes the entry from both tiers and is handed to the invalidation publisher, so the other
+ * replicas drop their local copy too.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, ValueWrapper> local;
+    private final Cache shared;
+    private final Consumer<Object> invalidationPublisher;
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter sharedHits;
+    private final Counter sharedMisses;
+
+    /**
+     * @param invalidationPublisher called with the evicted key, or null after a clear
+     */
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, ValueWrapper> local,
+                         Cache shared, Consumer<Object> invalidationPublisher, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.shared = shared;
+        this.invalidationPublisher = invalidationPublisher;
+        this.localHits = lookups(meterRegistry, "l1", "hit");
+        this.localMisses = lookups(meterRegistry, "l1", "miss");
+        this.sharedHits = lookups(meterRegistry, "l2", "hit");
+        this.sharedMisses = lookups(meterRegistry, "l2", "miss");
+    }
+
+    private Counter lookups(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("profile.cache.lookups")
+                .description("Cache lookups per tier")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.getIfPresent(key);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+        localMisses.increment();
+
+        value = shared.get(key);
+        if (value == null) {
+            sharedMisses.increment();
+            return null;
+        }
+        sharedHits.increment();
+        local.put(key, new SimpleValueWrapper(value.get()));
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        Object stored = value == null ? null : value.get();
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + stored);
+        }
+        return (T) stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper value = get(key);
+        if (value != null) {
+            return (T) value.get();
+        }
+        T loaded;
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, loaded);
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        shared.put(key, value);
+        local.put(key, new SimpleValueWrapper(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        shared.evict(key);
+        local.invalidate(key);
+        invalidationPublisher.accept(key);
+    }
+
+    @Override
+    public void clear() {
+        shared.clear();
+        local.invalidateAll();
+        invalidationPublisher.accept(null);
+    }
+
+    /**
+     * Drop an entry from the local tier only, on a peer's invalidation.
+     */
+    void evictLocal(Object key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.talentcloud.profile.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves the {@link ProfileCacheNames} caches as {@link TwoLevelCache}s and every other cache
+ * straight from Redis.
+ * <p>
+ * Evictions are broadcast on a Redis channel as {@code instanceId|cacheName|key}; every replica
+ * listens and drops the key from its local tier. A replica may still copy an old L2 value into its
+ * L1 between the L2 eviction and the broadcast, which the short local TTL bounds.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private static final String ALL_KEYS = "*";
+
+    private final CacheManager shared;
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final MeterRegistry meterRegistry;
+    private final long localMaximumSize;
+    private final Duration localTtl;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final Counter remoteInvalidations;
+
+    public TwoLevelCacheManager(CacheManager shared, StringRedisTemplate redisTemplate, String channel,
+                                MeterRegistry meterRegistry, long localMaximumSize, Duration localTtl) {
+        this.shared = shared;
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.meterRegistry = meterRegistry;
+        this.localMaximumSize = localMaximumSize;
+        this.localTtl = localTtl;
+        this.remoteInvalidations = Counter.builder("profile.cache.remote.invalidations")
+                .description("Local entries dropped on another replica's eviction")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        if (!isTwoLevel(name)) {
+            return shared.getCache(name);
+        }
+        return caches.computeIfAbsent(name, cacheName -> new TwoLevelCache(
+                cacheName,
+                Caffeine.newBuilder()
+                        .maximumSize(localMaximumSize)
+                        .expireAfterWrite(localTtl)
+                        .build(),
+                shared.getCache(cacheName),
+                key -> publish(cacheName, key),
+                meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        Set<String> names = new LinkedHashSet<>(shared.getCacheNames());
+        names.addAll(ProfileCacheNames.ALL);
+        return names;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.evictLocal(ALL_KEYS.equals(parts[2]) ? null : parts[2]);
+            remoteInvalidations.increment();
+        }
+    }
+
+    private void publish(String cacheName, Object key) {
+        try {
+            redisTemplate.convertAndSend(channel, instanceId + "|" + cacheName + "|" + (key == null ? ALL_KEYS : key));
+        } catch (Exception e) {
+            // The L2 entry is gone already; peers catch up when their local entry expires
+            log.warn("Could not broadcast eviction of {} from cache {}", key, cacheName, e);
+        }
+    }
+
+    private static boolean isTwoLevel(String name) {
+        return ProfileCacheNames.ALL.contains(name);
+    }
+}
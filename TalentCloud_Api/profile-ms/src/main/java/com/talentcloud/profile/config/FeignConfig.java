@@ -1,13 +1,17 @@
 package com.talentcloud.profile.config;
 
+import com.talentcloud.feign.FeignBulkheadCapability;
+import feign.Capability;
 import feign.Logger;
 import feign.Request;
 import feign.RequestInterceptor;
 import feign.Retryer;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -80,8 +84,15 @@ public class FeignConfig {
         return new Request.Options(5000, TimeUnit.MILLISECONDS, 5000, TimeUnit.MILLISECONDS, false);
     }
 
+    // One quick retry for connection failures. The old Default(1000, 2000, 3) could hold the
+    // calling request for three read timeouts plus backoff; slow responses are hedged instead.
     @Bean
     public Retryer retryer() {
-        return new Retryer.Default(1000, 2000, 3);
+        return new Retryer.Default(100, 500, 2);
+    }
+
+    @Bean
+    public Capability feignBulkheadCapability(Environment environment, MeterRegistry meterRegistry) {
+        return new FeignBulkheadCapability(environment, meterRegistry);
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.talentcloud.profile.config;
 
+import com.talentcloud.events.codec.EventSerializer;
+import com.talentcloud.profile.dto.event.CandidateSkillsChangedEvent;
 import com.talentcloud.profile.dto.event.ClientProfileCreatedEvent;
 import com.talentcloud.profile.dto.event.ProfileCreatedEvent;
 import com.talentcloud.profile.dto.event.ProfileStatusChangedEvent;
@@ -10,14 +12,16 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.springframework.beans.factory.annotation.Value;
 
 import java.util.HashMap;
 import java.util.Map;
 
+// Events are written in the binary format of the shared event-schema module and compressed per batch
 @Configuration
 public class KafkaProducerConfig {
+    private static final String COMPRESSION_TYPE = "lz4";
+
     @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
     @Bean
@@ -40,11 +44,22 @@ public class KafkaProducerConfig {
         return new KafkaTemplate<>(profileStatusChangedEventProducerFactory());
     }
 
+    @Bean
+    public ProducerFactory<String, CandidateSkillsChangedEvent> candidateSkillsChangedEventProducerFactory() {
+        return new DefaultKafkaProducerFactory<>(defaultConfigs());
+    }
+
+    @Bean
+    public KafkaTemplate<String, CandidateSkillsChangedEvent> candidateSkillsChangedKafkaTemplate() {
+        return new KafkaTemplate<>(candidateSkillsChangedEventProducerFactory());
+    }
+
     private Map<String, Object> defaultConfigs() {
         Map<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092"); // use env/config
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, EventSerializer.class);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, COMPRESSION_TYPE);
         return props;
     }
 
@@ -53,7 +68,8 @@ public class KafkaProducerConfig {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, EventSerializer.class);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, COMPRESSION_TYPE);
 
         // Configuration optionnelle pour une meilleure performance
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
@@ -74,8 +90,8 @@ public class KafkaProducerConfig {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092"); // modifie si nécessaire
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG,
-                org.springframework.kafka.support.serializer.JsonSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, EventSerializer.class);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, COMPRESSION_TYPE);
 
         return new DefaultKafkaProducerFactory<>(configProps);
     }
@@ -1,13 +1,26 @@
 package com.talentcloud.profile.config;
 
-import org.springframework.cache.CacheManager;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.talentcloud.profile.cache.ProfileCacheNames;
+import com.talentcloud.profile.cache.TwoLevelCacheManager;
+import com.talentcloud.profile.dto.CandidateResponse;
+import com.talentcloud.profile.model.Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 
 import java.time.Duration;
@@ -17,14 +30,46 @@ import java.time.Duration;
 public class RedisCacheConfig {
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory factory) {
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory factory,
+                                             StringRedisTemplate redisTemplate,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${profile-cache.invalidation-channel:profile-ms.cache-invalidation}") String channel,
+                                             @Value("${profile-cache.local.maximum-size:10000}") long localMaximumSize,
+                                             @Value("${profile-cache.local.ttl-seconds:60}") long localTtlSeconds) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(30)) // ⏱ default TTL
                 .serializeValuesWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer())
                 );
-        return RedisCacheManager.builder(factory)
+
+        // Profiles hold dates, and have a single known type, so they get their own serializers
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(factory)
                 .cacheDefaults(config)
+                .withCacheConfiguration(ProfileCacheNames.CANDIDATES, config.serializeValuesWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(
+                                new Jackson2JsonRedisSerializer<>(mapper, CandidateResponse.class))))
+                .withCacheConfiguration(ProfileCacheNames.CLIENTS, config.serializeValuesWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(
+                                new Jackson2JsonRedisSerializer<>(mapper, Client.class))))
                 .build();
+        // Not a bean of its own, so the per-cache configurations have to be loaded here
+        redisCacheManager.initializeCaches();
+        return new TwoLevelCacheManager(redisCacheManager, redisTemplate, channel, meterRegistry,
+                localMaximumSize, Duration.ofSeconds(localTtlSeconds));
+    }
+
+    // Drops local cache entries another replica evicted
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListener(RedisConnectionFactory factory,
+                                                                   TwoLevelCacheManager cacheManager,
+                                                                   @Value("${profile-cache.invalidation-channel:profile-ms.cache-invalidation}") String channel) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        container.addMessageListener(cacheManager, new ChannelTopic(channel));
+        return container;
     }
 }
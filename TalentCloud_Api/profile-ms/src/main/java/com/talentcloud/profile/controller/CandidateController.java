@@ -1,20 +1,29 @@
 package com.talentcloud.profile.controller;
 
 import com.talentcloud.profile.dto.CandidateResponse;
+import com.talentcloud.profile.dto.CandidateSearchResponse;
 import com.talentcloud.profile.dto.CreateProfileDto;
 import com.talentcloud.profile.dto.UpdateCandidateDto;
 import com.talentcloud.profile.dto.RejectCandidateDto;
 import com.talentcloud.profile.dto.ErrorResponse;
 import com.talentcloud.profile.exception.CandidateNotFoundException;
 import com.talentcloud.profile.model.Candidate;
+import com.talentcloud.profile.model.ProfileStatus;
+import com.talentcloud.profile.model.VisibilitySettings;
 import com.talentcloud.profile.iservice.IServiceCandidate;
+import com.talentcloud.profile.search.CandidateSearchIndex;
 import com.talentcloud.profile.service.CandidateService;
 import com.talentcloud.profile.service.EducationService;
+import com.talentcloud.profile.service.ImageVariantService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -38,21 +47,28 @@ import java.util.Optional;
 @RequestMapping("v1/candidates")
 public class CandidateController {
 
+    private static final int MAX_BULK_LOOKUP_SIZE = 200;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_FACET_LIMIT = 50;
+
     private final IServiceCandidate candidateService;
     private final EducationService educationService;
+    private final ImageVariantService imageVariantService;
 
     @Autowired
-    public CandidateController(IServiceCandidate candidateService, EducationService educationService) {
+    public CandidateController(IServiceCandidate candidateService, EducationService educationService,
+                               ImageVariantService imageVariantService) {
         this.candidateService = candidateService;
         this.educationService = educationService;
+        this.imageVariantService = imageVariantService;
     }
     @GetMapping("/status/by-userid/{userId}")
     public ResponseEntity<?> getCandidateProfileStatusByUserId(
             @RequestHeader(value = "X-User-Roles", required = false) String rolesHeader,
             @PathVariable String userId) {
 
-        return candidateService.getCandidateByUserId(userId)
-                .map(candidate -> ResponseEntity.ok(candidate.getProfileStatus().name()))
+        return candidateService.getProfileStatusByUserId(userId)
+                .map(status -> ResponseEntity.ok(status.name()))
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body("Candidate profile not found for userId: " + userId));
     }
@@ -95,6 +111,27 @@ public class CandidateController {
         }
     }
 
+    // Bulk variant of the simple lookup: unknown userIds are simply absent from the result
+    @PostMapping("/candidate/by-userids")
+    public ResponseEntity<?> getCandidatesByUserIds(@RequestBody List<String> userIds) {
+        if (userIds == null || userIds.size() > MAX_BULK_LOOKUP_SIZE) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    "Between 0 and " + MAX_BULK_LOOKUP_SIZE + " userIds can be requested at once",
+                    "Bad Request",
+                    LocalDateTime.now(),
+                    HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+        try {
+            List<CandidateResponse> candidates = candidateService.findCandidatesByUserIds(userIds);
+            return ResponseEntity.ok(candidates);
+        } catch (Exception e) {
+            log.error("Error fetching candidates for {} userIds", userIds.size(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @GetMapping("/profile")
     public ResponseEntity<?> getCurrentUserProfile(
             @RequestHeader(value = "X-User-Id", required = true) String userId,
@@ -222,21 +259,27 @@ public class CandidateController {
     }
 
     // NEW ENDPOINT: Serve profile pictures
+    // With ?size=, the smallest generated variant at least that large, or the original until it exists
     @GetMapping("/profile-picture/{filename:.+}")
-    public ResponseEntity<Resource> getProfilePicture(@PathVariable String filename) {
+    public ResponseEntity<Resource> getProfilePicture(@PathVariable String filename,
+                                                      @RequestParam(value = "size", required = false) Integer size) {
         try {
             String projectRoot = System.getProperty("user.dir");
-            Path filePath = Paths.get(projectRoot, "uploads", "profile-pictures", filename);
+            Path filePath = imageVariantService.resolve(Paths.get(projectRoot, "uploads", "profile-pictures"), filename, size);
+            if (filePath == null) {
+                return ResponseEntity.notFound().build();
+            }
             Resource resource = new UrlResource(filePath.toUri());
 
             if (resource.exists() && resource.isReadable()) {
                 // Determine content type
+                String servedName = filePath.getFileName().toString().toLowerCase();
                 String contentType = "application/octet-stream";
-                if (filename.toLowerCase().endsWith(".jpg") || filename.toLowerCase().endsWith(".jpeg")) {
+                if (servedName.endsWith(".jpg") || servedName.endsWith(".jpeg")) {
                     contentType = "image/jpeg";
-                } else if (filename.toLowerCase().endsWith(".png")) {
+                } else if (servedName.endsWith(".png")) {
                     contentType = "image/png";
-                } else if (filename.toLowerCase().endsWith(".gif")) {
+                } else if (servedName.endsWith(".gif")) {
                     contentType = "image/gif";
                 }
 
@@ -404,7 +447,9 @@ public class CandidateController {
 
     @GetMapping("/all")
     public ResponseEntity<?> getAllCandidates(
-            @RequestHeader(value = "X-User-Roles", required = false) String rolesHeader) {
+            @RequestHeader(value = "X-User-Roles", required = false) String rolesHeader,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
 
         // Check if user has ADMIN role (already restricted to Admin only)
         if (rolesHeader == null ||
@@ -418,10 +463,65 @@ public class CandidateController {
                     ));
         }
 
-        List<Candidate> candidates = candidateService.getAllCandidates();
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(
+                            "page must be 0 or more and size between 1 and " + MAX_PAGE_SIZE,
+                            "Bad Request",
+                            LocalDateTime.now(),
+                            HttpStatus.BAD_REQUEST.value()
+                    ));
+        }
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending().and(Sort.by("candidateId")));
+        Page<Candidate> candidates = candidateService.getAllCandidates(pageable);
         return new ResponseEntity<>(candidates, HttpStatus.OK);
     }
 
+    // Clients only ever see approved, public, unblocked candidates; admins can filter on anything
+    @GetMapping("/search")
+    public ResponseEntity<?> searchCandidates(
+            @RequestHeader(value = "X-User-Roles", required = false) String rolesHeader,
+            @RequestParam(value = "skills", required = false) List<String> skills,
+            @RequestParam(value = "location", required = false) List<String> locations,
+            @RequestParam(value = "jobTitle", required = false) List<String> jobTitles,
+            @RequestParam(value = "profileStatus", required = false) List<ProfileStatus> profileStatuses,
+            @RequestParam(value = "visibilitySettings", required = false) List<VisibilitySettings> visibilitySettings,
+            @RequestParam(value = "includeBlocked", defaultValue = "false") boolean includeBlocked,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "facetLimit", defaultValue = "10") int facetLimit) {
+
+        List<String> roles = rolesHeader == null ? List.of() : Arrays.asList(rolesHeader.split(","));
+        boolean isAdmin = roles.contains("Admin");
+        if (!isAdmin && !roles.contains("Client")) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(new ErrorResponse(
+                            "Only administrators and clients can search candidates",
+                            "Forbidden",
+                            LocalDateTime.now(),
+                            HttpStatus.FORBIDDEN.value()
+                    ));
+        }
+
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE || facetLimit < 0 || facetLimit > MAX_FACET_LIMIT) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(
+                            "page must be 0 or more, size between 1 and " + MAX_PAGE_SIZE
+                                    + " and facetLimit between 0 and " + MAX_FACET_LIMIT,
+                            "Bad Request",
+                            LocalDateTime.now(),
+                            HttpStatus.BAD_REQUEST.value()
+                    ));
+        }
+
+        CandidateSearchIndex.Query query = isAdmin
+                ? new CandidateSearchIndex.Query(skills, locations, jobTitles, profileStatuses, visibilitySettings, includeBlocked, false)
+                : CandidateSearchIndex.Query.publicOnly(skills, locations, jobTitles);
+        CandidateSearchResponse response = candidateService.searchCandidates(query, page, size, facetLimit);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/edit")
     public ResponseEntity<?> editCandidateProfile(
             @RequestHeader(value = "X-User-Id", required = true) String userId,
@@ -84,8 +84,8 @@ public class ClientController {
             @RequestHeader(value = "X-User-Roles", required = false) String rolesHeader,
             @PathVariable String userId) {
 
-        return serviceClient.getClientByUserId(userId)
-                .map(client -> ResponseEntity.ok(client.getProfileStatus().name()))
+        return serviceClient.getProfileStatusByUserId(userId)
+                .map(status -> ResponseEntity.ok(status.name()))
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body("Client profile not found for userId: " + userId));
     }
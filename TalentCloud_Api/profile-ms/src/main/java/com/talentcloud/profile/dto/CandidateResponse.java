@@ -7,6 +7,7 @@ import lombok.Setter;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Setter
@@ -17,6 +18,7 @@ public class CandidateResponse {
     private String userId; // Add this field if it doesn't exist
 
     private String profilePicture;
+    private Map<String, String> profilePictureVariants;
 
     private String resume;
 
@@ -0,0 +1,22 @@
+package com.talentcloud.profile.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateSearchResponse {
+    private List<CandidateResponse> candidates;
+    private long totalElements;
+    private int page;
+    private int size;
+    // Field name -> value -> number of matching candidates
+    private Map<String, Map<String, Long>> facets;
+}
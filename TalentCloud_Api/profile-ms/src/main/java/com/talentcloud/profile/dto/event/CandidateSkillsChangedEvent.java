@@ -0,0 +1,14 @@
+package com.talentcloud.profile.dto.event;
+
+import lombok.*;
+
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CandidateSkillsChangedEvent {
+    private String userId;
+    private Set<String> skills;   // Every skill of the candidate, empty once the profile is gone
+}
@@ -1,14 +1,20 @@
 package com.talentcloud.profile.iservice;
 
 import com.talentcloud.profile.dto.CandidateResponse;
+import com.talentcloud.profile.dto.CandidateSearchResponse;
 import com.talentcloud.profile.dto.CreateProfileDto;
 import com.talentcloud.profile.dto.UpdateCandidateDto;
 import com.talentcloud.profile.model.Candidate;
+import com.talentcloud.profile.model.ProfileStatus;
 import com.talentcloud.profile.model.VisibilitySettings;
+import com.talentcloud.profile.search.CandidateSearchIndex;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +23,9 @@ public interface IServiceCandidate {
 //    Candidate createCompleteProfile(CreateProfileDto request, String userId, String username, String email) throws Exception;
     CandidateResponse findCandidateByUserId(String userId);
 
+    // Bulk lookup used by job-ms to render a page of applicants in one call
+    List<CandidateResponse> findCandidatesByUserIds(Collection<String> userIds);
+
     // Add new method that accepts userId from header
     Candidate createCandidateProfile(@Valid Candidate candidate, @NotNull String userId);
 
@@ -31,8 +40,11 @@ public interface IServiceCandidate {
     // Get candidate by ID (returns Optional)
     Optional<Candidate> getCandidateById(@NotNull Long candidateId);
 
-    // Get all candidates
-    List<Candidate> getAllCandidates();
+    // Get one page of candidates, with their related data
+    Page<Candidate> getAllCandidates(Pageable pageable);
+
+    // Faceted search over the in-memory candidate index
+    CandidateSearchResponse searchCandidates(@NotNull CandidateSearchIndex.Query query, int page, int size, int facetLimit);
 
     // Update visibility settings
     Candidate updateVisibility(@NotNull Long candidateId, @NotNull VisibilitySettings visibility) throws Exception;
@@ -54,4 +66,6 @@ public interface IServiceCandidate {
 
     Optional<Candidate> getCandidateByUserId(String userId);
 
+    Optional<ProfileStatus> getProfileStatusByUserId(String userId);
+
 }
\ No newline at end of file
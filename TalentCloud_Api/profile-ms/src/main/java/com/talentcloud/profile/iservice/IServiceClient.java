@@ -2,6 +2,7 @@ package com.talentcloud.profile.iservice;
 
 import com.talentcloud.profile.dto.UpdateClientDto;
 import com.talentcloud.profile.model.Client;
+import com.talentcloud.profile.model.ProfileStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
@@ -18,6 +19,7 @@ public interface IServiceClient {
     Page<Client> getAllClients(Pageable pageable);
     Client blockProfile(UUID clientId);
     String getClientEmailByUserId(String userId);
+    Optional<ProfileStatus> getProfileStatusByUserId(String userId);
 
     // New methods
     List<Client> getAllClients();
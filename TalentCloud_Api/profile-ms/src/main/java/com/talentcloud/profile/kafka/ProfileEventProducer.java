@@ -1,5 +1,6 @@
 package com.talentcloud.profile.kafka;
 
+import com.talentcloud.profile.dto.event.CandidateSkillsChangedEvent;
 import com.talentcloud.profile.dto.event.ProfileCreatedEvent;
 import com.talentcloud.profile.dto.event.ProfileStatusChangedEvent;
 import lombok.RequiredArgsConstructor;
@@ -14,10 +15,12 @@ public class ProfileEventProducer {
 
     private final KafkaTemplate<String, ProfileCreatedEvent> kafkaTemplate;
     private final KafkaTemplate<String, ProfileStatusChangedEvent> statusChangedKafkaTemplate;
+    private final KafkaTemplate<String, CandidateSkillsChangedEvent> skillsChangedKafkaTemplate;
 
     private static final String TOPIC = "profile-created-topic";
     private static final String CANDIDATE_STATUS_TOPIC = "candidate-profile-status-topic";
     private static final String CLIENT_STATUS_TOPIC = "client-profile-status-topic";
+    private static final String CANDIDATE_SKILLS_TOPIC = "candidate-skills-topic";
 
     public void sendProfileCreatedEvent(ProfileCreatedEvent event) {
         kafkaTemplate.send(TOPIC, event.getUserId(), event);
@@ -33,4 +36,10 @@ public class ProfileEventProducer {
         statusChangedKafkaTemplate.send(topic, event.getUserId(), event);
         log.info("📤 Sent ProfileStatusChangedEvent to topic {} for user {}: {}", topic, event.getUserId(), event);
     }
+
+    // Keyed by userId so a candidate's successive skill sets stay in order
+    public void sendCandidateSkillsChangedEvent(CandidateSkillsChangedEvent event) {
+        skillsChangedKafkaTemplate.send(CANDIDATE_SKILLS_TOPIC, event.getUserId(), event);
+        log.info("📤 Sent CandidateSkillsChangedEvent for user {} with {} skills", event.getUserId(), event.getSkills().size());
+    }
 }
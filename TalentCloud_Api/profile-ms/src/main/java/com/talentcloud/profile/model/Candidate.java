@@ -2,23 +2,29 @@ package com.talentcloud.profile.model;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.talentcloud.profile.strategy.ProfileStrategy;
+import com.talentcloud.profile.cache.ProfileCacheEvictionListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Entity
+// One profile per user, enforced by the unique index uk_candidates_user_id from db/schema/profile-ms-indexes.sql
 @Table(name = "candidates")
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, ProfileCacheEvictionListener.class})
 public class Candidate {
 
     @Id
@@ -27,6 +33,11 @@ public class Candidate {
     private String userId;
                                   // Updated: This will now store the file path instead of direct content
     private String profilePicture;
+
+    // Resized copies of the profile picture by size in px, filled in once they are generated
+    @Column(columnDefinition = "jsonb")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private Map<String, String> profilePictureVariants = new HashMap<>();
     private String resume;
     @Column(columnDefinition = "TEXT")
     private String jobPreferences;
@@ -2,6 +2,7 @@ package com.talentcloud.profile.model;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.talentcloud.profile.cache.ProfileCacheEvictionListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.validator.constraints.URL;
@@ -17,6 +18,7 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners(ProfileCacheEvictionListener.class)
 public class Certification {
 
     @Id
@@ -1,26 +1,32 @@
 package com.talentcloud.profile.model;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.talentcloud.profile.cache.ProfileCacheEvictionListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 @Entity
+// One profile per user, enforced by the unique index uk_clients_user_id from db/schema/profile-ms-indexes.sql
 @Table(name = "clients")
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, ProfileCacheEvictionListener.class})
 public class Client {
 
     @Id
@@ -50,6 +56,11 @@ public class Client {
     @Column(name = "logo")
     private String logo;
 
+    // Resized copies of the logo by size in px, filled in once they are generated
+    @Column(columnDefinition = "jsonb")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private Map<String, String> logoVariants = new HashMap<>();
+
     @Column(columnDefinition = "TEXT")
     private String companyDescription;
 
@@ -2,6 +2,7 @@ package com.talentcloud.profile.model;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.talentcloud.profile.cache.ProfileCacheEvictionListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotNull;
@@ -19,6 +20,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners(ProfileCacheEvictionListener.class)
 public class Education {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
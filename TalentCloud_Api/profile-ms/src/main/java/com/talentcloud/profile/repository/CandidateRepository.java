@@ -1,12 +1,25 @@
 package com.talentcloud.profile.repository;
 
 import com.talentcloud.profile.model.*;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CandidateRepository extends JpaRepository<Candidate, Long> {
     List<Candidate> findByUserId(String userId);
+    List<Candidate> findByUserIdIn(Collection<String> userIds);
     boolean existsByUserId(String userId);
+
+    // Reads the status column alone, through the unique index on user_id
+    @Query("select c.profileStatus from Candidate c where c.userId = :userId")
+    Optional<ProfileStatus> findProfileStatusByUserId(@Param("userId") String userId);
+
+    // Full scans (index rebuilds): keyset on candidateId, so a row deleted mid-scan cannot shift another past a page
+    @Query("select c from Candidate c where c.candidateId > :candidateId order by c.candidateId")
+    List<Candidate> findPageAfter(@Param("candidateId") Long candidateId, Pageable pageable);
 }
@@ -7,6 +7,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -14,6 +15,7 @@ public interface CertificationRepository extends JpaRepository<Certification, Lo
     //List<Certification> findAllByCandidateId(Long candidateId);
     // Corrected method to find by candidate's relationship, not by ID
     List<Certification> findAllByCandidate_CandidateId(Long candidateId);
+    List<Certification> findAllByCandidate_CandidateIdIn(Collection<Long> candidateIds);
     List<Certification> findByCandidate(Candidate candidate);  // Correct query to find certifications for a specific candidate}
     Page<Certification> findAllByCandidate_CandidateId(Long candidateId, Pageable pageable);
     void deleteAllByCandidate_CandidateId(Long candidateId);
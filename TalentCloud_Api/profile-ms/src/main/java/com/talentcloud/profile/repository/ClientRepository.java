@@ -3,6 +3,8 @@ package com.talentcloud.profile.repository;
 import com.talentcloud.profile.model.Client;
 import com.talentcloud.profile.model.ProfileStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,4 +16,11 @@ public interface ClientRepository extends JpaRepository<Client, UUID> {
     List<Client> findByUserId(String userId);
     Optional<Client> findByCompanyNameIgnoreCaseAndProfileStatus(String companyName, ProfileStatus profileStatus);
 
+    // Single-column reads through the unique index on user_id
+    @Query("select c.profileStatus from Client c where c.userId = :userId")
+    Optional<ProfileStatus> findProfileStatusByUserId(@Param("userId") String userId);
+
+    @Query("select c.email from Client c where c.userId = :userId")
+    Optional<String> findEmailByUserId(@Param("userId") String userId);
+
 }
\ No newline at end of file
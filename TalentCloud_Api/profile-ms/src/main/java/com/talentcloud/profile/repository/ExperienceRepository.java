@@ -4,6 +4,7 @@ import com.talentcloud.profile.model.Experience;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -11,5 +12,6 @@ public interface ExperienceRepository extends JpaRepository<Experience, Long> {
     Page<Experience> findByCandidate_CandidateId(Long candidateId, Pageable pageable);
     List<Experience> findByCandidate_CandidateId(Long candidateId);
     List<Experience> findAllByCandidate_CandidateId(Long candidateId);
+    List<Experience> findAllByCandidate_CandidateIdIn(Collection<Long> candidateIds);
     void deleteAllByCandidate_CandidateId(Long candidateId);
 }
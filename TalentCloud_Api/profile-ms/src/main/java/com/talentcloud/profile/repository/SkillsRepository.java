@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -15,6 +16,7 @@ public interface SkillsRepository extends JpaRepository<Skills, Long> {
     List<Skills> findByCandidate_CandidateId(Long candidateId);
 
     List<Skills> findAllByCandidate_CandidateId(Long candidateId);
+    List<Skills> findAllByCandidate_CandidateIdIn(Collection<Long> candidateIds);
     Page<Skills> findAllByCandidate_CandidateId(Long candidateId, Pageable pageable);
     void deleteAllByCandidate_CandidateId(Long candidateId);
     // For finding a specific skills entry by ID
@@ -0,0 +1,448 @@
+package com.talentcloud.profile.search;
+
+import com.talentcloud.profile.model.Candidate;
+import com.talentcloud.profile.model.ProfileStatus;
+import com.talentcloud.profile.model.Skills;
+import com.talentcloud.profile.model.VisibilitySettings;
+import com.talentcloud.profile.repository.CandidateRepository;
+import com.talentcloud.profile.repository.SkillsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-process inverted index over the searchable candidate attributes.
+ * <p>
+ * Every candidate gets a dense document id, and each value of a facet field (a skill, a location,
+ * a job title, a status, a visibility) keeps the documents holding it in a {@link RoaringBitmap}.
+ * A search intersects the postings of the requested values, so neither filtering nor facet
+ * counting touches the database; only the page of hits is loaded afterwards.
+ * <p>
+ * Text values match case-insensitively on the whole value. Skills of all five skill sets are
+ * pooled, and a candidate must hold every requested skill; for the other fields any of the
+ * requested values matches.
+ * <p>
+ * The index is loaded on startup and kept current by CandidateService and SkillsService, always
+ * once the change is committed.
+ */
+@Slf4j
+@Component
+public class CandidateSearchIndex {
+
+    public static final String SKILLS = "skills";
+    public static final String LOCATION = "location";
+    public static final String JOB_TITLE = "jobTitle";
+    public static final String PROFILE_STATUS = "profileStatus";
+    public static final String VISIBILITY_SETTINGS = "visibilitySettings";
+
+    private static final List<String> FIELDS = List.of(SKILLS, LOCATION, JOB_TITLE, PROFILE_STATUS, VISIBILITY_SETTINGS);
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final CandidateRepository candidateRepository;
+    private final SkillsRepository skillsRepository;
+
+    // All fields below are guarded by lock
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> docIds = new HashMap<>();
+    private final List<Long> candidateIds = new ArrayList<>();
+    private final Map<Integer, Document> documents = new HashMap<>();
+    private final Map<String, Map<String, Posting>> postings = new HashMap<>();
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final RoaringBitmap blocked = new RoaringBitmap();
+    // Changes applied while a rebuild scans the tables, null when no rebuild runs. They are
+    // replayed rather than their results, since a skills or attributes update builds on the
+    // document indexed at the time
+    private List<Runnable> changedDuringRebuild;
+
+    public CandidateSearchIndex(CandidateRepository candidateRepository, SkillsRepository skillsRepository) {
+        this.candidateRepository = candidateRepository;
+        this.skillsRepository = skillsRepository;
+        for (String field : FIELDS) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    // Values as they were indexed, the keys of a field's postings are their normalized form
+    private record Document(Set<String> skills, String location, String jobTitle,
+                            String profileStatus, String visibilitySettings, boolean blocked) {
+
+        String single(String field) {
+            return switch (field) {
+                case LOCATION -> location;
+                case JOB_TITLE -> jobTitle;
+                case PROFILE_STATUS -> profileStatus;
+                case VISIBILITY_SETTINGS -> visibilitySettings;
+                default -> throw new IllegalArgumentException(field);
+            };
+        }
+    }
+
+    // The label is the first spelling seen, shown in facets
+    private record Posting(String label, RoaringBitmap docs) {
+    }
+
+    /**
+     * Filters of a search; null or empty means no filter on that field.
+     * <p>
+     * A {@code publicOnly} search only ever sees approved, public, unblocked candidates, facets
+     * included, and gets no status or visibility facets; its status, visibility and blocked
+     * filters are ignored.
+     */
+    public record Query(Collection<String> skills, Collection<String> locations, Collection<String> jobTitles,
+                        Collection<ProfileStatus> profileStatuses, Collection<VisibilitySettings> visibilitySettings,
+                        boolean includeBlocked, boolean publicOnly) {
+
+        public static Query publicOnly(Collection<String> skills, Collection<String> locations, Collection<String> jobTitles) {
+            return new Query(skills, locations, jobTitles, null, null, false, true);
+        }
+    }
+
+    /**
+     * @param candidateIds the requested page of hits, newest candidates first
+     * @param facets       per field, value to count of matching candidates, most frequent first
+     */
+    public record Result(List<Long> candidateIds, long total, Map<String, Map<String, Long>> facets) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<Map.Entry<Long, Document>> loaded = new ArrayList<>();
+
+        long lastId = 0;
+        List<Candidate> page;
+        do {
+            page = candidateRepository.findPageAfter(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            List<Long> ids = page.stream().map(Candidate::getCandidateId).collect(Collectors.toList());
+            Map<Long, List<Skills>> skills = ids.isEmpty() ? Map.of() : skillsRepository.findAllByCandidate_CandidateIdIn(ids)
+                    .stream().collect(Collectors.groupingBy(s -> s.getCandidate().getCandidateId()));
+            for (Candidate candidate : page) {
+                Set<String> candidateSkills = skillNames(skills.getOrDefault(candidate.getCandidateId(), List.of()));
+                loaded.add(Map.entry(candidate.getCandidateId(), analyze(candidate, candidateSkills)));
+                lastId = candidate.getCandidateId();
+            }
+        } while (page.size() == REBUILD_BATCH_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            docIds.clear();
+            candidateIds.clear();
+            documents.clear();
+            postings.values().forEach(Map::clear);
+            live.clear();
+            blocked.clear();
+            for (Map.Entry<Long, Document> entry : loaded) {
+                put(entry.getKey(), entry.getValue());
+            }
+            // A change committed after the scan passed its page is missing from the loaded documents
+            changedDuringRebuild.forEach(Runnable::run);
+            changedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Candidate search index loaded {} candidates in {} ms", loaded.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Index a candidate with its skills once the current transaction commits, replacing whatever
+     * was indexed for it before.
+     */
+    public void indexAfterCommit(Candidate candidate, Collection<Skills> skills) {
+        Long candidateId = candidate.getCandidateId();
+        Document document = analyze(candidate, skillNames(skills));
+        runAfterCommit(() -> write(() -> put(candidateId, document)));
+    }
+
+    /**
+     * Re-index the candidate's own attributes after a status or visibility change, keeping the
+     * skills already indexed for it.
+     */
+    public void updateAttributesAfterCommit(Candidate candidate) {
+        Long candidateId = candidate.getCandidateId();
+        Document attributes = analyze(candidate, Set.of());
+        runAfterCommit(() -> write(() -> {
+            Document previous = indexed(candidateId);
+            put(candidateId, withSkills(attributes, previous == null ? Set.of() : previous.skills()));
+        }));
+    }
+
+    /**
+     * Replace the indexed skills of a candidate. Ignored for a candidate that is not indexed
+     * yet, whose profile is indexed whole when its creation commits.
+     */
+    public void updateSkillsAfterCommit(Long candidateId, Collection<String> skills) {
+        Set<String> names = new LinkedHashSet<>(skills);
+        runAfterCommit(() -> write(() -> {
+            Document previous = indexed(candidateId);
+            if (previous != null) {
+                put(candidateId, withSkills(previous, names));
+            }
+        }));
+    }
+
+    public void removeAfterCommit(Long candidateId) {
+        runAfterCommit(() -> write(() -> remove(candidateId)));
+    }
+
+    public Result search(Query query, int page, int size, int facetLimit) {
+        lock.readLock().lock();
+        try {
+            // The candidates this search may see at all, facet counts never reach outside of it
+            RoaringBitmap base = live.clone();
+            if (!query.includeBlocked() || query.publicOnly()) {
+                base.andNot(blocked);
+            }
+            if (query.publicOnly()) {
+                base.and(docs(PROFILE_STATUS, ProfileStatus.APPROVED.name()));
+                base.and(docs(VISIBILITY_SETTINGS, VisibilitySettings.PUBLIC.name()));
+            }
+
+            Map<String, RoaringBitmap> filters = new LinkedHashMap<>();
+            putFilter(filters, SKILLS, query.skills(), true);
+            putFilter(filters, LOCATION, query.locations(), false);
+            putFilter(filters, JOB_TITLE, query.jobTitles(), false);
+            if (!query.publicOnly()) {
+                putFilter(filters, PROFILE_STATUS, names(query.profileStatuses()), false);
+                putFilter(filters, VISIBILITY_SETTINGS, names(query.visibilitySettings()), false);
+            }
+
+            RoaringBitmap hits = base.clone();
+            filters.values().forEach(hits::and);
+
+            // Counts of a multi-select field ignore its own filter, so the other values stay
+            // selectable; skills narrow down, so their counts are taken within the hits
+            Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+            for (String field : FIELDS) {
+                if (query.publicOnly() && (PROFILE_STATUS.equals(field) || VISIBILITY_SETTINGS.equals(field))) {
+                    continue;
+                }
+                RoaringBitmap scope;
+                if (SKILLS.equals(field) || !filters.containsKey(field)) {
+                    scope = hits;
+                } else {
+                    scope = base.clone();
+                    for (Map.Entry<String, RoaringBitmap> filter : filters.entrySet()) {
+                        if (!filter.getKey().equals(field)) {
+                            scope.and(filter.getValue());
+                        }
+                    }
+                }
+                facets.put(field, count(postings.get(field), scope, facetLimit));
+            }
+
+            // Higher document ids were indexed later, serve them first
+            long total = hits.getLongCardinality();
+            List<Long> pageIds = new ArrayList<>();
+            long from = (long) page * size;
+            for (long rank = from; rank < Math.min(total, from + size); rank++) {
+                int docId = hits.select((int) (total - 1 - rank));
+                pageIds.add(candidateIds.get(docId));
+            }
+            return new Result(pageIds, total, facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putFilter(Map<String, RoaringBitmap> filters, String field, Collection<String> values, boolean matchAll) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        Map<String, Posting> fieldPostings = postings.get(field);
+        RoaringBitmap docs = null;
+        for (String value : values) {
+            if (value == null || value.isBlank()) {
+                continue;
+            }
+            Posting posting = fieldPostings.get(normalize(value));
+            RoaringBitmap valueDocs = posting == null ? new RoaringBitmap() : posting.docs();
+            if (docs == null) {
+                docs = valueDocs.clone();
+            } else if (matchAll) {
+                docs.and(valueDocs);
+            } else {
+                docs.or(valueDocs);
+            }
+        }
+        if (docs != null) {
+            filters.put(field, docs);
+        }
+    }
+
+    private RoaringBitmap docs(String field, String value) {
+        Posting posting = postings.get(field).get(normalize(value));
+        return posting == null ? new RoaringBitmap() : posting.docs();
+    }
+
+    private static Map<String, Long> count(Map<String, Posting> fieldPostings, RoaringBitmap scope, int limit) {
+        List<Map.Entry<String, Long>> counts = new ArrayList<>();
+        for (Posting posting : fieldPostings.values()) {
+            long count = RoaringBitmap.andCardinality(posting.docs(), scope);
+            if (count > 0) {
+                counts.add(Map.entry(posting.label(), count));
+            }
+        }
+        counts.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+
+        Map<String, Long> top = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : counts.subList(0, Math.min(limit, counts.size()))) {
+            top.put(entry.getKey(), entry.getValue());
+        }
+        return top;
+    }
+
+    private void put(Long candidateId, Document document) {
+        Integer docId = docIds.get(candidateId);
+        if (docId == null) {
+            docId = candidateIds.size();
+            docIds.put(candidateId, docId);
+            candidateIds.add(candidateId);
+        } else if (documents.containsKey(docId)) {
+            unlink(docId, documents.get(docId));
+        }
+        documents.put(docId, document);
+        live.add(docId);
+        if (document.blocked()) {
+            blocked.add(docId);
+        } else {
+            blocked.remove(docId);
+        }
+        for (String skill : document.skills()) {
+            link(SKILLS, skill, docId);
+        }
+        for (String field : FIELDS.subList(1, FIELDS.size())) {
+            link(field, document.single(field), docId);
+        }
+    }
+
+    private Document indexed(Long candidateId) {
+        Integer docId = docIds.get(candidateId);
+        return docId == null ? null : documents.get(docId);
+    }
+
+    // The document id is not handed out again until the next rebuild
+    private void remove(Long candidateId) {
+        Integer docId = docIds.get(candidateId);
+        if (docId == null || !documents.containsKey(docId)) {
+            return;
+        }
+        unlink(docId, documents.remove(docId));
+        live.remove(docId);
+        blocked.remove(docId);
+    }
+
+    private void unlink(int docId, Document document) {
+        for (String skill : document.skills()) {
+            unlink(SKILLS, skill, docId);
+        }
+        for (String field : FIELDS.subList(1, FIELDS.size())) {
+            unlink(field, document.single(field), docId);
+        }
+    }
+
+    private void link(String field, String value, int docId) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        postings.get(field)
+                .computeIfAbsent(normalize(value), key -> new Posting(value.trim(), new RoaringBitmap()))
+                .docs().add(docId);
+    }
+
+    private void unlink(String field, String value, int docId) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        Map<String, Posting> fieldPostings = postings.get(field);
+        String key = normalize(value);
+        Posting posting = fieldPostings.get(key);
+        if (posting != null) {
+            posting.docs().remove(docId);
+            if (posting.docs().isEmpty()) {
+                fieldPostings.remove(key);
+            }
+        }
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Document analyze(Candidate candidate, Set<String> skills) {
+        return new Document(skills, candidate.getLocation(), candidate.getJobTitle(),
+                candidate.getProfileStatus() == null ? null : candidate.getProfileStatus().name(),
+                candidate.getVisibilitySettings() == null ? null : candidate.getVisibilitySettings().name(),
+                candidate.isBlocked());
+    }
+
+    private static Document withSkills(Document document, Set<String> skills) {
+        return new Document(skills, document.location(), document.jobTitle(),
+                document.profileStatus(), document.visibilitySettings(), document.blocked());
+    }
+
+    private static Set<String> skillNames(Collection<Skills> skills) {
+        Set<String> names = new LinkedHashSet<>();
+        if (skills == null) {
+            return names;
+        }
+        for (Skills entry : skills) {
+            addAll(names, entry.getProgrammingLanguages());
+            addAll(names, entry.getTechnicalSkills());
+            addAll(names, entry.getToolsAndTechnologies());
+            addAll(names, entry.getCustomSkills());
+            addAll(names, entry.getSoftSkills());
+        }
+        return names;
+    }
+
+    private static void addAll(Set<String> target, Collection<String> values) {
+        if (values != null) {
+            target.addAll(values);
+        }
+    }
+
+    private static <E extends Enum<E>> List<String> names(Collection<E> values) {
+        return values == null ? null : values.stream().map(Enum::name).collect(Collectors.toList());
+    }
+
+    static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.talentcloud.profile.service;
+
+import com.talentcloud.profile.dto.CandidateResponse;
+import com.talentcloud.profile.dto.CertificationResponse;
+import com.talentcloud.profile.dto.EducationResponse;
+import com.talentcloud.profile.dto.ExperienceResponse;
+import com.talentcloud.profile.dto.SkillsResponse;
+import com.talentcloud.profile.model.Candidate;
+
+import java.util.stream.Collectors;
+
+/**
+ * Candidate to CandidateResponse mapping. It only reads its argument, so it needs no service
+ * around it and can be benchmarked on its own.
+ */
+public final class CandidateResponseMapper {
+
+    private CandidateResponseMapper() {
+    }
+
+    public static CandidateResponse toResponse(Candidate candidate) {
+        CandidateResponse candidateResponse = new CandidateResponse();
+
+        // Mapping basic candidate details
+        candidateResponse.setCandidateId(candidate.getCandidateId());
+        candidateResponse.setUserId(candidate.getUserId());
+        candidateResponse.setProfilePicture(candidate.getProfilePicture());
+        candidateResponse.setProfilePictureVariants(candidate.getProfilePictureVariants());
+        candidateResponse.setResume(candidate.getResume());
+        candidateResponse.setJobPreferences(candidate.getJobPreferences());
+        candidateResponse.setJobTitle(candidate.getJobTitle());
+        candidateResponse.setAboutMe(candidate.getAboutMe());
+        candidateResponse.setDateOfBirth(candidate.getDateOfBirth());
+        candidateResponse.setPhoneNumber(candidate.getPhoneNumber());
+
+        // Handle gender safely (check for null)
+        if (candidate.getGender() != null) {
+            candidateResponse.setGender(candidate.getGender().toString());
+        }
+
+        candidateResponse.setLinkedInUrl(candidate.getLinkedInUrl());
+        candidateResponse.setPortfolioUrl(candidate.getPortfolioUrl());
+        candidateResponse.setAddress(candidate.getAddress());
+        candidateResponse.setLocation(candidate.getLocation());
+
+        // Mapping certifications (handle null collections)
+        if (candidate.getCertifications() != null) {
+            candidateResponse.setCertifications(
+                    candidate.getCertifications().stream()
+                            .map(cert -> {
+                                CertificationResponse certResponse = new CertificationResponse();
+                                certResponse.setId(cert.getId());
+                                certResponse.setNom(cert.getNom());
+                                certResponse.setOrganisme(cert.getOrganisme());
+                                certResponse.setDateObtention(cert.getDateObtention());
+                                certResponse.setDatevalidite(cert.getDatevalidite());
+                                certResponse.setUrlVerification(cert.getUrlVerification());
+                                return certResponse;
+                            })
+                            .collect(Collectors.toList())
+            );
+        }
+
+        // Mapping educations (handle null collections)
+        if (candidate.getEducations() != null) {
+            candidateResponse.setEducations(
+                    candidate.getEducations().stream()
+                            .map(edu -> {
+                                EducationResponse eduResponse = new EducationResponse();
+                                eduResponse.setId(edu.getId());
+                                eduResponse.setDiplome(edu.getDiplome());
+                                eduResponse.setInstitution(edu.getInstitution());
+                                eduResponse.setDateDebut(edu.getDateDebut());
+                                eduResponse.setDateFin(edu.getDateFin());
+                                eduResponse.setEnCours(edu.getEnCours());
+                                eduResponse.setMoyenne(edu.getMoyenne());
+                                eduResponse.setDomaineEtude(edu.getDomaineEtude());
+                                return eduResponse;
+                            })
+                            .collect(Collectors.toList())
+            );
+        }
+
+        // Mapping skills (handle null collections)
+        if (candidate.getSkills() != null) {
+            candidateResponse.setSkills(
+                    candidate.getSkills().stream()
+                            .map(skill -> {
+                                SkillsResponse skillsResponse = new SkillsResponse();
+                                skillsResponse.setId(skill.getId());
+                                skillsResponse.setProgrammingLanguages(skill.getProgrammingLanguages());
+                                skillsResponse.setSoftSkills(skill.getSoftSkills());
+                                skillsResponse.setTechnicalSkills(skill.getTechnicalSkills());
+                                skillsResponse.setToolsAndTechnologies(skill.getToolsAndTechnologies());
+                                skillsResponse.setCustomSkills(skill.getCustomSkills());
+                                return skillsResponse;
+                            })
+                            .collect(Collectors.toList())
+            );
+        }
+
+        // Mapping experience (handle null collections)
+        if (candidate.getExperiences() != null) {
+            candidateResponse.setExperiences(
+                    candidate.getExperiences().stream()
+                            .map(exp -> {
+                                ExperienceResponse experienceResponse = new ExperienceResponse();
+                                experienceResponse.setId(exp.getId());
+                                experienceResponse.setTitrePoste(exp.getTitrePoste());
+                                experienceResponse.setEntreprise(exp.getEntreprise());
+                                experienceResponse.setDateDebut(exp.getDateDebut());
+                                experienceResponse.setDateFin(exp.getDateFin());
+                                experienceResponse.setDescription(exp.getDescription());
+                                experienceResponse.setLieu(exp.getLieu());
+                                experienceResponse.setTypeContrat(exp.getTypeContrat());
+                                experienceResponse.setTechnologies(exp.getTechnologies());
+                                experienceResponse.setEnCours(exp.getEnCours());
+                                experienceResponse.setSiteEntreprise(exp.getSiteEntreprise());
+                                return experienceResponse;
+                            })
+                            .collect(Collectors.toList())
+            );
+        }
+
+        return candidateResponse;
+    }
+}
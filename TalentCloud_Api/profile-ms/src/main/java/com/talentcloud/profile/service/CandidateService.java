@@ -1,5 +1,6 @@
 package com.talentcloud.profile.service;
 
+import com.talentcloud.profile.cache.ProfileCacheNames;
 import com.talentcloud.profile.client.UserClient;
 import com.talentcloud.profile.dto.*;
 import com.talentcloud.profile.dto.event.ProfileCreatedEvent;
@@ -9,13 +10,18 @@ import com.talentcloud.profile.iservice.IServiceCandidate;
 import com.talentcloud.profile.kafka.ProfileEventProducer;
 import com.talentcloud.profile.model.*;
 import com.talentcloud.profile.repository.*;
+import com.talentcloud.profile.search.CandidateSearchIndex;
 import com.talentcloud.profile.strategy.BlockProfileStrategy;
 import com.talentcloud.profile.strategy.PrivateProfileStrategy;
 import com.talentcloud.profile.strategy.ProfileStrategy;
 import com.talentcloud.profile.strategy.VisibleProfileStrategy;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import lombok.extern.slf4j.Slf4j;
 
@@ -25,6 +31,11 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -46,6 +57,9 @@ public class CandidateService implements IServiceCandidate {
     private final CertificationService certificationService;
     private final UserClient userClient;
     private final ProfileEventProducer eventProducer;
+    private final CandidateSearchIndex searchIndex;
+    private final ImageVariantService imageVariantService;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
     public CandidateService(CandidateRepository candidateRepository,
@@ -58,7 +72,10 @@ public class CandidateService implements IServiceCandidate {
                             SkillsService skillsService,
                             CertificationService certificationService,
                             UserClient userClient,
-                            ProfileEventProducer eventProducer) {
+                            ProfileEventProducer eventProducer,
+                            CandidateSearchIndex searchIndex,
+                            ImageVariantService imageVariantService,
+                            TransactionTemplate transactionTemplate) {
         this.candidateRepository = candidateRepository;
         this.educationRepository = educationRepository;
         this.experienceRepository = experienceRepository;
@@ -70,6 +87,9 @@ public class CandidateService implements IServiceCandidate {
         this.certificationService = certificationService;
         this.userClient = userClient;
         this.eventProducer = eventProducer;
+        this.searchIndex = searchIndex;
+        this.imageVariantService = imageVariantService;
+        this.transactionTemplate = transactionTemplate;
     }
 
     @Override
@@ -77,6 +97,11 @@ public class CandidateService implements IServiceCandidate {
         return candidateRepository.findByUserId(userId).stream().findFirst();
     }
 
+    @Override
+    public Optional<ProfileStatus> getProfileStatusByUserId(String userId) {
+        return candidateRepository.findProfileStatusByUserId(userId);
+    }
+
 
 
     private String getEmailFromAuth(String userId) {
@@ -89,6 +114,7 @@ public class CandidateService implements IServiceCandidate {
     }
 
     @Override
+    @Cacheable(cacheNames = ProfileCacheNames.CANDIDATES, key = "#userId")
     public CandidateResponse findCandidateByUserId(String userId) {
         List<Candidate> candidates = candidateRepository.findByUserId(userId);
 
@@ -100,14 +126,36 @@ public class CandidateService implements IServiceCandidate {
         Candidate candidate = candidates.get(0);
 
         // Load all related data for the candidate
-        candidate.setEducations(educationRepository.findAllByCandidate_CandidateId(candidate.getCandidateId()));
-        candidate.setExperiences(experienceRepository.findAllByCandidate_CandidateId(candidate.getCandidateId()));
-        candidate.setCertifications(certificationRepository.findAllByCandidate_CandidateId(candidate.getCandidateId()));
-        candidate.setSkills(skillRepository.findAllByCandidate_CandidateId(candidate.getCandidateId()));
+        loadAggregates(List.of(candidate));
 
         return mapToCandidateResponse(candidate);
     }
 
+    @Override
+    @Transactional
+    public List<CandidateResponse> findCandidatesByUserIds(Collection<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+
+        // Keep the first profile per userId, same as findCandidateByUserId
+        Map<String, Candidate> candidatesByUserId = new LinkedHashMap<>();
+        for (Candidate candidate : candidateRepository.findByUserIdIn(new HashSet<>(userIds))) {
+            candidatesByUserId.putIfAbsent(candidate.getUserId(), candidate);
+        }
+        if (candidatesByUserId.isEmpty()) {
+            return List.of();
+        }
+
+        loadAggregates(candidatesByUserId.values());
+
+        List<CandidateResponse> responses = new ArrayList<>(candidatesByUserId.size());
+        for (Candidate candidate : candidatesByUserId.values()) {
+            responses.add(mapToCandidateResponse(candidate));
+        }
+        return responses;
+    }
+
     @Override
     public Candidate createCandidateProfile(Candidate candidate, String userId) {
         // Check if a profile already exists for this userId
@@ -132,7 +180,9 @@ public class CandidateService implements IServiceCandidate {
         candidate.setUpdatedAt(LocalDateTime.now());
 
         // Save the candidate with the userId from the header
-        return candidateRepository.save(candidate);
+        Candidate saved = candidateRepository.save(candidate);
+        searchIndex.indexAfterCommit(saved, List.of());
+        return saved;
     }
 
     @Override
@@ -265,7 +315,9 @@ public class CandidateService implements IServiceCandidate {
 
         // 8. Fetch and return the complete profile
         Optional<Candidate> completeProfile = getCandidateById(candidateId);
-        return completeProfile.orElse(savedCandidate);
+        Candidate result = completeProfile.orElse(savedCandidate);
+        searchIndex.indexAfterCommit(result, result.getSkills());
+        return result;
     }
 
     // Add this helper method to your CandidateService class
@@ -329,6 +381,7 @@ public class CandidateService implements IServiceCandidate {
                 try {
                     Path oldFilePath = Paths.get(projectRoot, candidate.getProfilePicture());
                     Files.deleteIfExists(oldFilePath);
+                    imageVariantService.deleteVariants(oldFilePath);
                 } catch (IOException e) {
                     // Log warning but don't fail the upload
                     System.err.println("Warning: Could not delete old profile picture: " + e.getMessage());
@@ -341,9 +394,15 @@ public class CandidateService implements IServiceCandidate {
             // Update candidate with relative path
             String relativePath = "uploads/profile-pictures/" + uniqueFilename;
             candidate.setProfilePicture(relativePath);
+            candidate.setProfilePictureVariants(new HashMap<>());
             candidate.setUpdatedAt(LocalDateTime.now());
             candidateRepository.save(candidate);
 
+            // Thumbnails are made in the background, list views get them once they exist
+            Long candidateId = candidate.getCandidateId();
+            imageVariantService.generateAfterCommit(filePath,
+                    fileNames -> recordProfilePictureVariants(candidateId, relativePath, fileNames));
+
             return relativePath;
 
         } catch (IOException e) {
@@ -351,6 +410,17 @@ public class CandidateService implements IServiceCandidate {
         }
     }
 
+    // Runs on an image worker; skipped if the picture was replaced while its variants were made
+    private void recordProfilePictureVariants(Long candidateId, String picture, Map<String, String> fileNames) {
+        transactionTemplate.executeWithoutResult(status -> candidateRepository.findById(candidateId)
+                .filter(candidate -> picture.equals(candidate.getProfilePicture()))
+                .ifPresent(candidate -> {
+                    Map<String, String> variants = new LinkedHashMap<>();
+                    fileNames.forEach((size, fileName) -> variants.put(size, "uploads/profile-pictures/" + fileName));
+                    candidate.setProfilePictureVariants(variants);
+                }));
+    }
+
     // NEW METHODS FOR STATUS MANAGEMENT
     @Override
     @Transactional
@@ -376,6 +446,7 @@ public class CandidateService implements IServiceCandidate {
                         .build()
         );
 
+        searchIndex.updateAttributesAfterCommit(saved);
         return saved;
     }
 
@@ -403,6 +474,7 @@ public class CandidateService implements IServiceCandidate {
                         .build()
         );
 
+        searchIndex.updateAttributesAfterCommit(saved);
         return saved;
     }
 
@@ -418,7 +490,9 @@ public class CandidateService implements IServiceCandidate {
         existingCandidate.setBlocked(true); // Set the blocked flag
 
         existingCandidate.setUpdatedAt(LocalDateTime.now());
-        return candidateRepository.save(existingCandidate);
+        Candidate saved = candidateRepository.save(existingCandidate);
+        searchIndex.updateAttributesAfterCommit(saved);
+        return saved;
     }
 
     @Override
@@ -430,10 +504,7 @@ public class CandidateService implements IServiceCandidate {
             Candidate candidate = candidateOptional.get();
 
             // Fetch and set all related information
-            candidate.setEducations(educationRepository.findAllByCandidate_CandidateId(candidateId));
-            candidate.setExperiences(experienceRepository.findAllByCandidate_CandidateId(candidateId));
-            candidate.setCertifications(certificationRepository.findAllByCandidate_CandidateId(candidateId));
-            candidate.setSkills(skillRepository.findAllByCandidate_CandidateId(candidateId));
+            loadAggregates(List.of(candidate));
 
             return Optional.of(candidate);
         }
@@ -443,20 +514,64 @@ public class CandidateService implements IServiceCandidate {
 
     @Override
     @Transactional
-    public List<Candidate> getAllCandidates() {
-        List<Candidate> candidates = candidateRepository.findAll();
+    public Page<Candidate> getAllCandidates(Pageable pageable) {
+        Page<Candidate> candidates = candidateRepository.findAll(pageable);
 
-        // Load related data for each candidate
-        for (Candidate candidate : candidates) {
-            candidate.setEducations(educationRepository.findAllByCandidate_CandidateId(candidate.getCandidateId()));
-            candidate.setExperiences(experienceRepository.findAllByCandidate_CandidateId(candidate.getCandidateId()));
-            candidate.setCertifications(certificationRepository.findAllByCandidate_CandidateId(candidate.getCandidateId()));
-            candidate.setSkills(skillRepository.findAllByCandidate_CandidateId(candidate.getCandidateId()));
-        }
+        // The same number of queries for every page, however many candidates it holds
+        loadAggregates(candidates.getContent());
 
         return candidates;
     }
 
+    @Override
+    @Transactional
+    public CandidateSearchResponse searchCandidates(CandidateSearchIndex.Query query, int page, int size, int facetLimit) {
+        CandidateSearchIndex.Result result = searchIndex.search(query, page, size, facetLimit);
+
+        // Only the page of hits comes from the database, in the order the index ranked them
+        Map<Long, Candidate> candidatesById = candidateRepository.findAllById(result.candidateIds()).stream()
+                .collect(Collectors.toMap(Candidate::getCandidateId, candidate -> candidate));
+        loadAggregates(candidatesById.values());
+
+        List<CandidateResponse> candidates = new ArrayList<>(candidatesById.size());
+        for (Long candidateId : result.candidateIds()) {
+            Candidate candidate = candidatesById.get(candidateId);
+            if (candidate != null) {
+                candidates.add(mapToCandidateResponse(candidate));
+            }
+        }
+        return new CandidateSearchResponse(candidates, result.total(), page, size, result.facets());
+    }
+
+    /**
+     * Attach educations, experiences, certifications and skills to the given candidates,
+     * with one query per related table for the whole collection.
+     */
+    private void loadAggregates(Collection<Candidate> candidates) {
+        if (candidates.isEmpty()) {
+            return;
+        }
+        List<Long> candidateIds = candidates.stream()
+                .map(Candidate::getCandidateId)
+                .collect(Collectors.toList());
+        Map<Long, List<Education>> educations = educationRepository.findAllByCandidate_CandidateIdIn(candidateIds)
+                .stream().collect(Collectors.groupingBy(e -> e.getCandidate().getCandidateId()));
+        Map<Long, List<Experience>> experiences = experienceRepository.findAllByCandidate_CandidateIdIn(candidateIds)
+                .stream().collect(Collectors.groupingBy(e -> e.getCandidate().getCandidateId()));
+        Map<Long, List<Certification>> certifications = certificationRepository.findAllByCandidate_CandidateIdIn(candidateIds)
+                .stream().collect(Collectors.groupingBy(c -> c.getCandidate().getCandidateId()));
+        Map<Long, List<Skills>> skills = skillRepository.findAllByCandidate_CandidateIdIn(candidateIds)
+                .stream().collect(Collectors.groupingBy(sk -> sk.getCandidate().getCandidateId()));
+
+        for (Candidate candidate : candidates) {
+            Long candidateId = candidate.getCandidateId();
+            candidate.setEducations(educations.getOrDefault(candidateId, new ArrayList<>()));
+            candidate.setExperiences(experiences.getOrDefault(candidateId, new ArrayList<>()));
+            candidate.setCertifications(certifications.getOrDefault(candidateId, new ArrayList<>()));
+            candidate.setSkills(skills.getOrDefault(candidateId, new ArrayList<>()));
+        }
+    }
+
     @Override
     @Transactional
     public Candidate editCandidateProfile(Long candidateId, UpdateCandidateDto dto) throws Exception {
@@ -464,7 +579,11 @@ public class CandidateService implements IServiceCandidate {
                 .orElseThrow(() -> new CandidateNotFoundException("Candidate not found with id " + candidateId));
 
         // Update basic fields
-        if (dto.getProfilePicture() != null) existingCandidate.setProfilePicture(dto.getProfilePicture());
+        if (dto.getProfilePicture() != null && !dto.getProfilePicture().equals(existingCandidate.getProfilePicture())) {
+            existingCandidate.setProfilePicture(dto.getProfilePicture());
+            // Variants belong to the uploaded picture, not to an externally set one
+            existingCandidate.setProfilePictureVariants(new HashMap<>());
+        }
         if (dto.getResume() != null) existingCandidate.setResume(dto.getResume());
         if (dto.getJobPreferences() != null) existingCandidate.setJobPreferences(dto.getJobPreferences());
         if (dto.getJobTitle() != null) existingCandidate.setJobTitle(dto.getJobTitle());
@@ -556,10 +675,8 @@ public class CandidateService implements IServiceCandidate {
         }
 
         // Fetch and attach related info
-        savedCandidate.setEducations(educationRepository.findAllByCandidate_CandidateId(candidateId));
-        savedCandidate.setExperiences(experienceRepository.findAllByCandidate_CandidateId(candidateId));
-        savedCandidate.setCertifications(certificationRepository.findAllByCandidate_CandidateId(candidateId));
-        savedCandidate.setSkills(skillRepository.findAllByCandidate_CandidateId(candidateId));
+        loadAggregates(List.of(savedCandidate));
+        searchIndex.indexAfterCommit(savedCandidate, savedCandidate.getSkills());
 
         return savedCandidate;
     }
@@ -598,7 +715,9 @@ public class CandidateService implements IServiceCandidate {
         existingCandidate.setVisibilitySettings(visibility); // Set the visibility setting
 
         existingCandidate.setUpdatedAt(LocalDateTime.now());
-        return candidateRepository.save(existingCandidate);
+        Candidate saved = candidateRepository.save(existingCandidate);
+        searchIndex.updateAttributesAfterCommit(saved);
+        return saved;
     }
 
     @Override
@@ -624,6 +743,7 @@ public class CandidateService implements IServiceCandidate {
                 String projectRoot = System.getProperty("user.dir");
                 Path filePath = Paths.get(projectRoot, candidate.getProfilePicture());
                 Files.deleteIfExists(filePath);
+                imageVariantService.deleteVariants(filePath);
             } catch (IOException e) {
                 // Log warning but don't fail the deletion
                 System.err.println("Warning: Could not delete profile picture file: " + e.getMessage());
@@ -635,116 +755,15 @@ public class CandidateService implements IServiceCandidate {
         experienceRepository.deleteAllByCandidate_CandidateId(candidateId);
         certificationRepository.deleteAllByCandidate_CandidateId(candidateId);
         skillRepository.deleteAllByCandidate_CandidateId(candidateId);
+        // Publishes an empty skill set so job-ms drops the candidate's recommendations
+        skillsService.publishCandidateSkills(candidate);
 
         // Finally delete the candidate
         candidateRepository.delete(candidate);
+        searchIndex.removeAfterCommit(candidateId);
     }
 
-    // Update your existing mapToCandidateResponse method to include userId mapping
-    // Replace your existing mapToCandidateResponse method with this updated version
     public CandidateResponse mapToCandidateResponse(Candidate candidate) {
-        CandidateResponse candidateResponse = new CandidateResponse();
-
-        // Mapping basic candidate details
-        candidateResponse.setCandidateId(candidate.getCandidateId());
-        candidateResponse.setUserId(candidate.getUserId()); // Add this line
-        candidateResponse.setProfilePicture(candidate.getProfilePicture());
-        candidateResponse.setResume(candidate.getResume());
-        candidateResponse.setJobPreferences(candidate.getJobPreferences());
-        candidateResponse.setJobTitle(candidate.getJobTitle());
-        candidateResponse.setAboutMe(candidate.getAboutMe());
-        candidateResponse.setDateOfBirth(candidate.getDateOfBirth());
-        candidateResponse.setPhoneNumber(candidate.getPhoneNumber());
-
-        // Handle gender safely (check for null)
-        if (candidate.getGender() != null) {
-            candidateResponse.setGender(candidate.getGender().toString());
-        }
-
-        candidateResponse.setLinkedInUrl(candidate.getLinkedInUrl());
-        candidateResponse.setPortfolioUrl(candidate.getPortfolioUrl());
-        candidateResponse.setAddress(candidate.getAddress());
-        candidateResponse.setLocation(candidate.getLocation());
-
-        // Mapping certifications (handle null collections)
-        if (candidate.getCertifications() != null) {
-            candidateResponse.setCertifications(
-                    candidate.getCertifications().stream()
-                            .map(cert -> {
-                                CertificationResponse certResponse = new CertificationResponse();
-                                certResponse.setId(cert.getId());
-                                certResponse.setNom(cert.getNom());
-                                certResponse.setOrganisme(cert.getOrganisme());
-                                certResponse.setDateObtention(cert.getDateObtention());
-                                certResponse.setDatevalidite(cert.getDatevalidite());
-                                certResponse.setUrlVerification(cert.getUrlVerification());
-                                return certResponse;
-                            })
-                            .collect(Collectors.toList())
-            );
-        }
-
-        // Mapping educations (handle null collections)
-        if (candidate.getEducations() != null) {
-            candidateResponse.setEducations(
-                    candidate.getEducations().stream()
-                            .map(edu -> {
-                                EducationResponse eduResponse = new EducationResponse();
-                                eduResponse.setId(edu.getId());
-                                eduResponse.setDiplome(edu.getDiplome());
-                                eduResponse.setInstitution(edu.getInstitution());
-                                eduResponse.setDateDebut(edu.getDateDebut());
-                                eduResponse.setDateFin(edu.getDateFin());
-                                eduResponse.setEnCours(edu.getEnCours());
-                                eduResponse.setMoyenne(edu.getMoyenne());
-                                eduResponse.setDomaineEtude(edu.getDomaineEtude());
-                                return eduResponse;
-                            })
-                            .collect(Collectors.toList())
-            );
-        }
-
-        // Mapping skills (handle null collections)
-        if (candidate.getSkills() != null) {
-            candidateResponse.setSkills(
-                    candidate.getSkills().stream()
-                            .map(skill -> {
-                                SkillsResponse skillsResponse = new SkillsResponse();
-                                skillsResponse.setId(skill.getId());
-                                skillsResponse.setProgrammingLanguages(skill.getProgrammingLanguages());
-                                skillsResponse.setSoftSkills(skill.getSoftSkills());
-                                skillsResponse.setTechnicalSkills(skill.getTechnicalSkills());
-                                skillsResponse.setToolsAndTechnologies(skill.getToolsAndTechnologies());
-                                skillsResponse.setCustomSkills(skill.getCustomSkills());
-                                return skillsResponse;
-                            })
-                            .collect(Collectors.toList())
-            );
-        }
-
-        // Mapping experience (handle null collections)
-        if (candidate.getExperiences() != null) {
-            candidateResponse.setExperiences(
-                    candidate.getExperiences().stream()
-                            .map(exp -> {
-                                ExperienceResponse experienceResponse = new ExperienceResponse();
-                                experienceResponse.setId(exp.getId());
-                                experienceResponse.setTitrePoste(exp.getTitrePoste());
-                                experienceResponse.setEntreprise(exp.getEntreprise());
-                                experienceResponse.setDateDebut(exp.getDateDebut());
-                                experienceResponse.setDateFin(exp.getDateFin());
-                                experienceResponse.setDescription(exp.getDescription());
-                                experienceResponse.setLieu(exp.getLieu());
-                                experienceResponse.setTypeContrat(exp.getTypeContrat());
-                                experienceResponse.setTechnologies(exp.getTechnologies());
-                                experienceResponse.setEnCours(exp.getEnCours());
-                                experienceResponse.setSiteEntreprise(exp.getSiteEntreprise());
-                                return experienceResponse;
-                            })
-                            .collect(Collectors.toList())
-            );
-        }
-
-        return candidateResponse;
+        return CandidateResponseMapper.toResponse(candidate);
     }
 }
\ No newline at end of file
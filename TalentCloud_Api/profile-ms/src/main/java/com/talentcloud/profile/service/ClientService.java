@@ -1,5 +1,6 @@
 package com.talentcloud.profile.service;
 
+import com.talentcloud.profile.cache.ProfileCacheNames;
 import com.talentcloud.profile.client.UserClient;
 import com.talentcloud.profile.dto.UpdateClientDto;
 import com.talentcloud.profile.dto.event.ClientProfileCreatedEvent;
@@ -14,8 +15,10 @@ import com.talentcloud.profile.repository.ClientRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
@@ -27,6 +30,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -42,11 +47,16 @@ public class ClientService implements IServiceClient {
     private final String uploadDirectory;
     private final EventPublisherService eventPublisherService;
     private UserClient userClient;
+    private final ImageVariantService imageVariantService;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
-    public ClientService(ClientRepository clientRepository, EventPublisherService eventPublisherService, UserClient userClient) {
+    public ClientService(ClientRepository clientRepository, EventPublisherService eventPublisherService, UserClient userClient,
+                         ImageVariantService imageVariantService, TransactionTemplate transactionTemplate) {
         this.clientRepository = clientRepository;
         this.eventPublisherService = eventPublisherService;
+        this.imageVariantService = imageVariantService;
+        this.transactionTemplate = transactionTemplate;
         // Create upload directory using system property
         this.uploadDirectory = System.getProperty("user.dir") + File.separator + "uploads" + File.separator + "logos";
         createUploadDirectory();
@@ -63,13 +73,17 @@ public class ClientService implements IServiceClient {
             throw new RuntimeException("Could not create upload directory", e);
         }
     }
+    @Cacheable(cacheNames = ProfileCacheNames.CLIENT_EMAILS, key = "#userId")
     public String getClientEmailByUserId(String userId) {
-        return clientRepository.findByUserId(userId).stream()
-                .findFirst()
-                .map(Client::getEmail)
+        return clientRepository.findEmailByUserId(userId)
                 .orElseThrow(() -> new ClientNotFoundException("Client not found with userId " + userId));
     }
 
+    @Override
+    public Optional<ProfileStatus> getProfileStatusByUserId(String userId) {
+        return clientRepository.findProfileStatusByUserId(userId);
+    }
+
     @Override
     public Client createClientProfile(Client client) {
         // This method should not be called directly
@@ -288,6 +302,7 @@ public class ClientService implements IServiceClient {
     }
 
     @Override
+    @Cacheable(cacheNames = ProfileCacheNames.CLIENTS, key = "#userId", unless = "#result == null")
     public Optional<Client> getClientByUserId(String userId) {
         List<Client> clients = clientRepository.findByUserId(userId);
         return clients.isEmpty() ? Optional.empty() : Optional.of(clients.get(0));
@@ -376,10 +391,14 @@ public class ClientService implements IServiceClient {
 
         // Update client with logo path
         String logoPath = "/uploads/logos/" + uniqueFilename;
+        deletePreviousLogoVariants(client);
         client.setLogo(logoPath);
+        client.setLogoVariants(new HashMap<>());
         client.setUpdatedAt(LocalDateTime.now());
 
-        return clientRepository.save(client);
+        Client savedClient = clientRepository.save(client);
+        generateLogoVariants(savedClient.getClientId(), logoPath, filePath);
+        return savedClient;
     }
 
     @Override
@@ -406,10 +425,35 @@ public class ClientService implements IServiceClient {
 
         // Update client with logo path
         String logoPath = "/uploads/logos/" + uniqueFilename;
+        deletePreviousLogoVariants(client);
         client.setLogo(logoPath);
+        client.setLogoVariants(new HashMap<>());
         client.setUpdatedAt(LocalDateTime.now());
 
-        return clientRepository.save(client);
+        Client savedClient = clientRepository.save(client);
+        generateLogoVariants(savedClient.getClientId(), logoPath, filePath);
+        return savedClient;
+    }
+
+    // Logo names are unique per upload, so the old variants would otherwise stay on disk
+    private void deletePreviousLogoVariants(Client client) {
+        if (client.getLogo() != null && !client.getLogo().isBlank()) {
+            Path previousLogo = Paths.get(uploadDirectory).resolve(Paths.get(client.getLogo()).getFileName());
+            imageVariantService.deleteVariantsAfterCommit(previousLogo);
+        }
+    }
+
+    // Thumbnails are made in the background once the upload commits
+    private void generateLogoVariants(UUID clientId, String logoPath, Path filePath) {
+        imageVariantService.generateAfterCommit(filePath, fileNames ->
+                transactionTemplate.executeWithoutResult(status -> clientRepository.findById(clientId)
+                        // A newer upload supersedes these variants
+                        .filter(client -> logoPath.equals(client.getLogo()))
+                        .ifPresent(client -> {
+                            Map<String, String> variants = new LinkedHashMap<>();
+                            fileNames.forEach((size, fileName) -> variants.put(size, "/uploads/logos/" + fileName));
+                            client.setLogoVariants(variants);
+                        })));
     }
 
     private void validateLogoFile(MultipartFile file) throws Exception {
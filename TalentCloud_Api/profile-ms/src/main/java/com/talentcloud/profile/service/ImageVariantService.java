@@ -0,0 +1,292 @@
+package com.talentcloud.profile.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Resized copies of uploaded profile pictures and logos, made in the background.
+ * <p>
+ * Each upload is decoded once on a small bounded pool, and one variant per configured size is
+ * written next to the original as {@code <name>_<size>.jpg}, or {@code .png} when the image has
+ * transparency. Variants are re-encoded from pixels only, so EXIF, GPS and other metadata of the
+ * upload are not carried over. When the queue is full the upload keeps only its original, which
+ * the serving endpoints fall back to.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    // Decoding is refused above this, a small file can still expand to gigabytes of pixels
+    private static final long MAX_PIXELS = 40_000_000L;
+
+    private final List<Integer> sizes;
+    private final float jpegQuality;
+    private final ThreadPoolExecutor executor;
+    private final Counter generated;
+    private final Counter rejected;
+    private final Counter failed;
+
+    public ImageVariantService(@Value("${image-variants.sizes:64,256}") List<Integer> sizes,
+                               @Value("${image-variants.worker-threads:2}") int workerThreads,
+                               @Value("${image-variants.queue-capacity:100}") int queueCapacity,
+                               @Value("${image-variants.jpeg-quality:0.85}") float jpegQuality,
+                               MeterRegistry meterRegistry) {
+        this.sizes = sizes.stream().sorted().distinct().toList();
+        this.jpegQuality = jpegQuality;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variants-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("profile.images.queue", executor, pool -> pool.getQueue().size())
+                .description("Uploads waiting for their variants")
+                .register(meterRegistry);
+        this.generated = outcome(meterRegistry, "generated");
+        this.rejected = outcome(meterRegistry, "rejected");
+        this.failed = outcome(meterRegistry, "failed");
+    }
+
+    private static Counter outcome(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("profile.images.uploads")
+                .description("Uploads processed into variants")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queue variants of an uploaded image once the current transaction commits.
+     *
+     * @param onGenerated called on the worker thread with the file name of each variant by size,
+     *                    not called when the image could not be processed
+     */
+    public void generateAfterCommit(Path original, Consumer<Map<String, String>> onGenerated) {
+        Runnable submit = () -> {
+            try {
+                executor.execute(() -> generate(original, onGenerated));
+            } catch (RejectedExecutionException e) {
+                rejected.increment();
+                log.warn("Image variant queue is full, {} is served at full size only", original.getFileName());
+            }
+        };
+        runAfterCommit(submit);
+    }
+
+    /**
+     * Delete the variants of a replaced image once the current transaction commits; on rollback
+     * the image is still in use and keeps them.
+     */
+    public void deleteVariantsAfterCommit(Path original) {
+        runAfterCommit(() -> deleteVariants(original));
+    }
+
+    /**
+     * Pick the file to serve for a requested size: the smallest variant at least that large,
+     * or the original when there is none (yet).
+     *
+     * @return null when the name leaves the directory or the original does not exist
+     */
+    public Path resolve(Path directory, String filename, Integer size) {
+        Path original = directory.resolve(filename).normalize();
+        if (!original.startsWith(directory.normalize()) || !Files.isRegularFile(original)) {
+            return null;
+        }
+        if (size == null) {
+            return original;
+        }
+        for (int variantSize : sizes) {
+            if (variantSize >= size) {
+                for (String extension : List.of(".jpg", ".png")) {
+                    Path variant = original.resolveSibling(variantName(original, variantSize, extension));
+                    if (Files.isRegularFile(variant)) {
+                        return variant;
+                    }
+                }
+                break;
+            }
+        }
+        return original;
+    }
+
+    public void deleteVariants(Path original) {
+        for (int size : sizes) {
+            for (String extension : List.of(".jpg", ".png")) {
+                try {
+                    Files.deleteIfExists(original.resolveSibling(variantName(original, size, extension)));
+                } catch (IOException e) {
+                    log.warn("Could not delete image variant of {}: {}", original.getFileName(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void generate(Path original, Consumer<Map<String, String>> onGenerated) {
+        try {
+            BufferedImage image = decode(original);
+            if (image == null) {
+                failed.increment();
+                log.warn("No variants for {}, the image could not be decoded", original.getFileName());
+                return;
+            }
+            boolean transparent = image.getColorModel().hasAlpha();
+            String extension = transparent ? ".png" : ".jpg";
+
+            Map<String, String> variants = new LinkedHashMap<>();
+            for (int size : sizes) {
+                BufferedImage resized = resize(image, size, transparent);
+                Path target = original.resolveSibling(variantName(original, size, extension));
+                write(resized, target, transparent);
+                variants.put(String.valueOf(size), target.getFileName().toString());
+            }
+            onGenerated.accept(variants);
+            generated.increment();
+        } catch (Exception e) {
+            failed.increment();
+            log.error("Could not generate variants of {}", original.getFileName(), e);
+        }
+    }
+
+    private static BufferedImage decode(Path original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    log.warn("{} is too large to decode ({}x{})", original.getFileName(), reader.getWidth(0), reader.getHeight(0));
+                    return null;
+                }
+                // First frame only for animated GIFs
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Longest side down to size, halving first so large photos do not alias; never upscaled
+    private static BufferedImage resize(BufferedImage source, int size, boolean transparent) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) size / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height, transparent);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, boolean transparent) {
+        BufferedImage target = new BufferedImage(width, height,
+                transparent ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            if (!transparent) {
+                // JPEG has no alpha, flatten anything translucent onto white
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+            }
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // Written to a temporary file first, so a request never sees half a variant
+    private void write(BufferedImage image, Path target, boolean transparent) throws IOException {
+        Path temporary = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            if (transparent) {
+                ImageIO.write(image, "png", temporary.toFile());
+            } else {
+                ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+                try (ImageOutputStream output = ImageIO.createImageOutputStream(temporary.toFile())) {
+                    writer.setOutput(output);
+                    writer.write(null, new IIOImage(image, null, null), param);
+                } finally {
+                    writer.dispose();
+                }
+            }
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static String variantName(Path original, int size, String extension) {
+        String name = original.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return base + "_" + size + extension;
+    }
+}
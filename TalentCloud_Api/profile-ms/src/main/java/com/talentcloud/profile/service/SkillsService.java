@@ -1,29 +1,44 @@
 package com.talentcloud.profile.service;
 
+import com.talentcloud.profile.dto.event.CandidateSkillsChangedEvent;
 import com.talentcloud.profile.iservice.IServiceSkills;
+import com.talentcloud.profile.kafka.ProfileEventProducer;
 import com.talentcloud.profile.model.Candidate;
 import com.talentcloud.profile.model.Skills;
 import com.talentcloud.profile.dto.UpdateSkillsDto;
 import com.talentcloud.profile.repository.SkillsRepository;
 import com.talentcloud.profile.repository.CandidateRepository;
+import com.talentcloud.profile.search.CandidateSearchIndex;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+@Slf4j
 @Service
 public class SkillsService implements IServiceSkills {
 
     private final SkillsRepository skillsRepository;
     private final CandidateRepository candidateRepository;
+    private final ProfileEventProducer eventProducer;
+    private final CandidateSearchIndex searchIndex;
 
     @Autowired
-    public SkillsService(SkillsRepository skillsRepository, CandidateRepository candidateRepository) {
+    public SkillsService(SkillsRepository skillsRepository, CandidateRepository candidateRepository,
+                         ProfileEventProducer eventProducer, CandidateSearchIndex searchIndex) {
         this.skillsRepository = skillsRepository;
         this.candidateRepository = candidateRepository;
+        this.eventProducer = eventProducer;
+        this.searchIndex = searchIndex;
     }
 
     @Override
@@ -107,7 +122,9 @@ public class SkillsService implements IServiceSkills {
                 .map(candidate -> {
                     skills.setCandidate(candidate);
                     skills.setCreatedAt(LocalDateTime.now());
-                    return skillsRepository.save(skills);
+                    Skills saved = skillsRepository.save(skills);
+                    publishCandidateSkills(candidate);
+                    return saved;
                 })
                 .orElseThrow(() -> new IllegalArgumentException("Candidate not found with ID: " + candidateId));
     }
@@ -125,7 +142,9 @@ public class SkillsService implements IServiceSkills {
         skills.setCandidate(candidate);
         skills.setCreatedAt(LocalDateTime.now());
 
-        return skillsRepository.save(skills);
+        Skills saved = skillsRepository.save(skills);
+        publishCandidateSkills(candidate);
+        return saved;
     }
 
     @Override
@@ -143,8 +162,10 @@ public class SkillsService implements IServiceSkills {
         // Set the updatedAt timestamp to the current time
         existingSkills.setUpdatedAt(LocalDateTime.now());
 
-        // Save and return the updated skills
-        return skillsRepository.save(existingSkills);
+        // Save, publish the candidate's new skill set and return the updated skills
+        Skills saved = skillsRepository.save(existingSkills);
+        publishCandidateSkills(existingSkills.getCandidate());
+        return saved;
     }
 
     @Override
@@ -175,8 +196,10 @@ public class SkillsService implements IServiceSkills {
         // Set the updatedAt timestamp to the current time
         existingSkills.setUpdatedAt(LocalDateTime.now());
 
-        // Save and return the updated skills
-        return skillsRepository.save(existingSkills);
+        // Save, publish the candidate's new skill set and return the updated skills
+        Skills saved = skillsRepository.save(existingSkills);
+        publishCandidateSkills(existingSkills.getCandidate());
+        return saved;
     }
 
     @Override
@@ -185,6 +208,7 @@ public class SkillsService implements IServiceSkills {
                 .orElseThrow(() -> new IllegalArgumentException("Skills not found with id: " + skillsId));
 
         skillsRepository.delete(existingSkills);
+        publishCandidateSkills(existingSkills.getCandidate());
     }
 
     @Override
@@ -206,5 +230,52 @@ public class SkillsService implements IServiceSkills {
         }
 
         skillsRepository.delete(existingSkills);
+        publishCandidateSkills(existingSkills.getCandidate());
     }
-}
\ No newline at end of file
+
+    /**
+     * Publish the union of all skill entries of a candidate, so consumers can replace
+     * their copy wholesale instead of replaying individual edits. The event goes out once the
+     * current transaction commits, so a rollback never reaches job-ms.
+     */
+    public void publishCandidateSkills(Candidate candidate) {
+        Set<String> allSkills = new LinkedHashSet<>();
+        for (Skills skills : skillsRepository.findAllByCandidate_CandidateId(candidate.getCandidateId())) {
+            addAll(allSkills, skills.getProgrammingLanguages());
+            addAll(allSkills, skills.getTechnicalSkills());
+            addAll(allSkills, skills.getToolsAndTechnologies());
+            addAll(allSkills, skills.getCustomSkills());
+            addAll(allSkills, skills.getSoftSkills());
+        }
+        searchIndex.updateSkillsAfterCommit(candidate.getCandidateId(), allSkills);
+        CandidateSkillsChangedEvent event = new CandidateSkillsChangedEvent(candidate.getUserId(), allSkills);
+        runAfterCommit(() -> {
+            try {
+                eventProducer.sendCandidateSkillsChangedEvent(event);
+            } catch (Exception e) {
+                // The skills are saved either way, but job-ms only fetches the profile of candidates it
+                // has not seen yet, so a known candidate keeps stale recommendations until the next change
+                log.error("Failed to publish skills of candidate {}", candidate.getCandidateId(), e);
+            }
+        });
+    }
+
+    private static void addAll(Set<String> target, Collection<String> values) {
+        if (values != null) {
+            target.addAll(values);
+        }
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
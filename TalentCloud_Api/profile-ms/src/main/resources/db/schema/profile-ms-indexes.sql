@@ -0,0 +1,28 @@
+-- Constraints Hibernate cannot be trusted to create through ddl-auto. Runs after ddl-auto on every start, so each
+-- statement must be idempotent.
+
+-- One candidate profile per user, the Optional lookups by user id rely on it. Duplicates are merged into the
+-- oldest profile (lowest candidate_id): their entries move over, then they are removed.
+WITH duplicates AS (
+    SELECT candidate_id, MIN(candidate_id) OVER (PARTITION BY user_id) AS kept_id FROM candidates WHERE user_id IS NOT NULL
+)
+UPDATE skills t SET candidate_id = d.kept_id FROM duplicates d WHERE t.candidate_id = d.candidate_id AND d.candidate_id <> d.kept_id;
+WITH duplicates AS (
+    SELECT candidate_id, MIN(candidate_id) OVER (PARTITION BY user_id) AS kept_id FROM candidates WHERE user_id IS NOT NULL
+)
+UPDATE educations t SET candidate_id = d.kept_id FROM duplicates d WHERE t.candidate_id = d.candidate_id AND d.candidate_id <> d.kept_id;
+WITH duplicates AS (
+    SELECT candidate_id, MIN(candidate_id) OVER (PARTITION BY user_id) AS kept_id FROM candidates WHERE user_id IS NOT NULL
+)
+UPDATE experiences t SET candidate_id = d.kept_id FROM duplicates d WHERE t.candidate_id = d.candidate_id AND d.candidate_id <> d.kept_id;
+WITH duplicates AS (
+    SELECT candidate_id, MIN(candidate_id) OVER (PARTITION BY user_id) AS kept_id FROM candidates WHERE user_id IS NOT NULL
+)
+UPDATE certifications t SET candidate_id = d.kept_id FROM duplicates d WHERE t.candidate_id = d.candidate_id AND d.candidate_id <> d.kept_id;
+DELETE FROM candidates c USING candidates kept WHERE kept.user_id = c.user_id AND kept.candidate_id < c.candidate_id;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_candidates_user_id ON candidates (user_id);
+
+-- One client profile per user, for the same lookups. Nothing references a client row, the oldest one is kept.
+DELETE FROM clients c USING clients kept
+WHERE kept.user_id = c.user_id AND (kept.created_at, kept.client_id) < (c.created_at, c.client_id);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_clients_user_id ON clients (user_id);